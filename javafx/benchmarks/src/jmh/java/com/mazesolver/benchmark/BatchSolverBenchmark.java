@@ -0,0 +1,50 @@
+package com.mazesolver.benchmark;
+
+import com.mazesolver.model.BatchResult;
+import com.mazesolver.model.DataStructureType;
+import com.mazesolver.model.MazePreset;
+import com.mazesolver.solver.BatchSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A batch of generated mazes solved with different worker counts. On an otherwise
+ * idle machine the time per batch should fall close to 1/threads up to the core count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchSolverBenchmark {
+    private static final int MAZE_COUNT = 64;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"250"})
+    public int size;
+
+    private List<MazePreset> mazes;
+    private BatchSolver batchSolver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mazes = new ArrayList<>(MAZE_COUNT);
+        for (int i = 0; i < MAZE_COUNT; i++) {
+            mazes.add(BenchmarkMazes.random(size, i));
+        }
+        batchSolver = new BatchSolver(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batchSolver.close();
+    }
+
+    @Benchmark
+    public List<BatchResult> solveBatch() throws InterruptedException {
+        return batchSolver.solveAll(mazes, DataStructureType.QUEUE);
+    }
+}
@@ -0,0 +1,75 @@
+package com.mazesolver.benchmark;
+
+import com.mazesolver.model.GeneratorType;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MazePreset;
+import com.mazesolver.model.Position;
+import com.mazesolver.util.MazeGenerators;
+import com.mazesolver.util.MazePresets;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Mazes used by the benchmarks: the built-in presets by id, square mazes with scattered
+ * walls named {@code random-<size>}, and square mazes from {@link MazeGenerators} named
+ * after the generator, e.g. {@code kruskal-1000} or {@code caves-4000}.
+ */
+final class BenchmarkMazes {
+    private static final long SEED = 42;
+    private static final double WALL_DENSITY = 0.3;
+
+    private BenchmarkMazes() {
+    }
+
+    static Maze byName(String name) {
+        if (name.startsWith("random-")) {
+            return Maze.fromPreset(random(Integer.parseInt(name.substring("random-".length()))));
+        }
+        for (MazePreset preset : MazePresets.PRESETS) {
+            if (preset.getId().equals(name)) {
+                return Maze.fromPreset(preset);
+            }
+        }
+        int dash = name.lastIndexOf('-');
+        if (dash > 0) {
+            GeneratorType type = GeneratorType.valueOf(name.substring(0, dash).toUpperCase(Locale.ROOT));
+            int size = Integer.parseInt(name.substring(dash + 1));
+            return MazeGenerators.generate(type, size, size, SEED);
+        }
+        throw new IllegalArgumentException("Unknown maze: " + name);
+    }
+
+    /**
+     * Seeded scattered walls with a random monotone corridor carved from the
+     * top-left to the bottom-right corner, so the maze is always solvable.
+     */
+    static MazePreset random(int size) {
+        return random(size, SEED);
+    }
+
+    static MazePreset random(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[][] grid = new int[size][size];
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                grid[y][x] = random.nextDouble() < WALL_DENSITY ? 1 : 0;
+            }
+        }
+
+        int x = 0;
+        int y = 0;
+        grid[0][0] = 0;
+        while (x < size - 1 || y < size - 1) {
+            if (y == size - 1 || (x < size - 1 && random.nextBoolean())) {
+                x++;
+            } else {
+                y++;
+            }
+            grid[y][x] = 0;
+        }
+
+        return new MazePreset("random-" + size, "Random " + size + "x" + size, grid,
+            new Position(0, 0), new Position(size - 1, size - 1));
+    }
+}
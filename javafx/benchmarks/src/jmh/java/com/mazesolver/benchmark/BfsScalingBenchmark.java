@@ -0,0 +1,37 @@
+package com.mazesolver.benchmark;
+
+import com.mazesolver.model.DataStructureType;
+import com.mazesolver.model.Position;
+import com.mazesolver.model.SolveResult;
+import com.mazesolver.solver.SolverEngine;
+import com.mazesolver.util.MazePresets;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BFS on wall-free grids, where the frontier is as wide as it gets and every cell
+ * is expanded. With an O(1) queue the time per solve grows linearly with the
+ * number of cells (4x per doubling of the side).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BfsScalingBenchmark {
+    @Param({"250", "500", "1000"})
+    public int size;
+
+    private SolverEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[][] grid = MazePresets.createEmptyGrid(size, size);
+        engine = new SolverEngine(grid, new Position(0, 0), new Position(size - 1, size - 1),
+            DataStructureType.QUEUE);
+    }
+
+    @Benchmark
+    public SolveResult solve() {
+        return engine.solve();
+    }
+}
@@ -0,0 +1,68 @@
+package com.mazesolver.benchmark;
+
+import com.mazesolver.model.DataStructureType;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.SolveResult;
+import com.mazesolver.solver.ExternalBfs;
+import com.mazesolver.solver.SolverEngine;
+import com.mazesolver.util.EllerGenerator;
+import com.mazesolver.util.MappedMaze;
+import com.mazesolver.util.MazeFiles;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * The bounded-memory BFS over a memory-mapped maze file against the in-heap QUEUE
+ * strategy on the same streamed Eller maze. Shows what the fixed heap budget costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExternalBfsBenchmark {
+    @Param({"1001", "4001"})
+    public int size;
+
+    private Path directory;
+    private MappedMaze mapped;
+    private ExternalBfs externalBfs;
+    private SolverEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("maze-bench");
+        Path file = directory.resolve("eller.maze");
+        EllerGenerator generator = new EllerGenerator(size, size, 42);
+        MazeFiles.writeBinary(file, size, size, generator.getStart(), generator.getEnd(), generator);
+
+        mapped = MappedMaze.open(file);
+        externalBfs = new ExternalBfs(mapped, directory);
+        Maze maze = MazeFiles.readBinary(file);
+        engine = new SolverEngine(maze.getGrid(), maze.getStart(), maze.getEnd(), DataStructureType.QUEUE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        externalBfs.close();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public long externalBfs() throws IOException {
+        return externalBfs.solve(mapped.getStart(), mapped.getEnd());
+    }
+
+    @Benchmark
+    public SolveResult inHeapQueue() {
+        return engine.solve();
+    }
+}
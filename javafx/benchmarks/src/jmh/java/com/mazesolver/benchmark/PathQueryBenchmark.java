@@ -0,0 +1,68 @@
+package com.mazesolver.benchmark;
+
+import com.mazesolver.model.BitGrid;
+import com.mazesolver.model.DataStructureType;
+import com.mazesolver.model.Position;
+import com.mazesolver.solver.PathQueryService;
+import com.mazesolver.solver.SolverEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many start/end queries on one grid: a fresh A* engine per query against the
+ * landmark-based {@link PathQueryService} (cache disabled, so every query searches).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PathQueryBenchmark {
+    private static final int QUERY_COUNT = 100;
+
+    @Param({"random-1000", "kruskal-1001", "caves-1000"})
+    public String maze;
+
+    private BitGrid grid;
+    private Position[] sources;
+    private Position[] targets;
+    private PathQueryService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        grid = BenchmarkMazes.byName(maze).getGrid();
+        SplittableRandom random = new SplittableRandom(7);
+        sources = new Position[QUERY_COUNT];
+        targets = new Position[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            sources[i] = randomOpenCell(random);
+            targets[i] = randomOpenCell(random);
+        }
+        service = new PathQueryService(grid, 8, 0);
+    }
+
+    private Position randomOpenCell(SplittableRandom random) {
+        while (true) {
+            int x = random.nextInt(grid.getWidth());
+            int y = random.nextInt(grid.getHeight());
+            if (grid.isOpen(x, y)) {
+                return new Position(x, y);
+            }
+        }
+    }
+
+    @Benchmark
+    public void aStarPerQuery(Blackhole blackhole) {
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            blackhole.consume(new SolverEngine(grid, sources[i], targets[i], DataStructureType.A_STAR).solve());
+        }
+    }
+
+    @Benchmark
+    public void landmarkService(Blackhole blackhole) {
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            blackhole.consume(service.findPath(sources[i], targets[i]));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.mazesolver.benchmark;
+
+import com.mazesolver.model.DataStructureType;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.SolveResult;
+import com.mazesolver.solver.SolverEngine;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Full headless solves for every strategy on the presets and on generated mazes.
+ * Throughput and sampled latency percentiles come from the configured benchmark
+ * modes; allocation rates from the GC profiler.
+ *
+ * <p>The default mazes keep a full run short. The 4000-scale mazes ({@code random-4000},
+ * {@code eller-4001}) are opt-in: {@code -PjmhParams=maze=random-4000,eller-4001}.</p>
+ */
+@State(Scope.Benchmark)
+public class SolverBenchmark {
+    @Param({"simple", "deadends", "spiral", "complex", "wide", "random-100", "random-1000"})
+    public String maze;
+
+    @Param({"STACK", "QUEUE", "LINKED_LIST", "A_STAR", "JUMP_POINT",
+        "BIDIRECTIONAL_BFS", "BIDIRECTIONAL_A_STAR", "D_STAR_LITE", "CORRIDOR_GRAPH"})
+    public DataStructureType strategy;
+
+    // Dead-end filling runs inside solve(), so its cost is part of the measured time
+    @Param({"false", "true"})
+    public boolean deadEndFilling;
+
+    private SolverEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Maze input = BenchmarkMazes.byName(maze);
+        engine = new SolverEngine(input.getGrid(), input.getStart(), input.getEnd(), strategy);
+        engine.setDeadEndFilling(deadEndFilling);
+    }
+
+    @Benchmark
+    public SolveResult solve() {
+        // solve() resets the engine, so every invocation is a complete search
+        return engine.solve();
+    }
+}
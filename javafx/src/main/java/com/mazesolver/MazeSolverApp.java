@@ -1,8 +1,12 @@
 package com.mazesolver;
 
 import com.mazesolver.model.*;
+import com.mazesolver.solver.ConnectivityIndex;
+import com.mazesolver.solver.CorridorGraphCache;
 import com.mazesolver.solver.MazeSolver;
 import com.mazesolver.ui.*;
+import com.mazesolver.util.MazeFiles;
+import com.mazesolver.util.MazeGenerators;
 import com.mazesolver.util.MazePresets;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
@@ -10,22 +14,32 @@ import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
-import java.util.List;
+
+import java.io.File;
+import java.io.IOException;
 
 public class MazeSolverApp {
-    private static final int GRID_SIZE = 10;
+    // Above this many cells the node-per-cell MazeGrid gets too heavy, use the canvas
+    private static final int MAX_NODE_GRID_CELLS = 30 * 30;
     
     private Stage stage;
-    private MazeGrid mazeGrid;
+    private MazeView mazeGrid;
     private ControlPanel controlPanel;
     private StatsDashboard statsDashboard;
     private DataStructureVisualization dataStructureViz;
     private DataStructureSelector dataStructureSelector;
     private PresetSelector presetSelector;
     
-    private int[][] grid;
-    private CellState[][] cellStates;
+    private VBox mazeContainer;
+    
+    private BitGrid grid;
+    private int gridWidth;
+    private int gridHeight;
+    private CellStateBuffer cellStates;
+    private ConnectivityIndex connectivity;  // built by the first run on a grid, then kept in sync
+    private CorridorGraphCache corridorGraphs;  // outlives each solver; rebuilds after wall edits
     private Position start;
     private Position end;
     private DataStructureType currentDataType;
@@ -37,7 +51,7 @@ public class MazeSolverApp {
         
         // Initialize with first preset
         MazePreset initialPreset = MazePresets.PRESETS[0];
-        grid = copyGrid(initialPreset.getGrid());
+        setGrid(BitGrid.fromArray(initialPreset.getGrid()));
         start = initialPreset.getStart();
         end = initialPreset.getEnd();
         currentDataType = DataStructureType.STACK;
@@ -66,28 +80,15 @@ public class MazeSolverApp {
     }
 
     private void initializeCellStates() {
-        cellStates = new CellState[GRID_SIZE][GRID_SIZE];
-        for (int y = 0; y < GRID_SIZE; y++) {
-            for (int x = 0; x < GRID_SIZE; x++) {
-                if (x == start.getX() && y == start.getY()) {
-                    cellStates[y][x] = CellState.START;
-                } else if (x == end.getX() && y == end.getY()) {
-                    cellStates[y][x] = CellState.END;
-                } else if (grid[y][x] == 1) {
-                    cellStates[y][x] = CellState.WALL;
-                } else {
-                    cellStates[y][x] = CellState.EMPTY;
-                }
-            }
-        }
+        cellStates = CellStateBuffer.of(grid, start, end);
     }
 
-    private int[][] copyGrid(int[][] source) {
-        int[][] copy = new int[source.length][];
-        for (int i = 0; i < source.length; i++) {
-            copy[i] = source[i].clone();
-        }
-        return copy;
+    private void setGrid(BitGrid newGrid) {
+        grid = newGrid;
+        connectivity = null;
+        corridorGraphs = new CorridorGraphCache();
+        gridHeight = newGrid.getHeight();
+        gridWidth = newGrid.getWidth();
     }
 
     private BorderPane createMainLayout() {
@@ -109,7 +110,8 @@ public class MazeSolverApp {
         // Center - Maze grid
         VBox center = new VBox(10);
         center.setAlignment(Pos.CENTER);
-        center.getChildren().add(mazeGrid);
+        center.getChildren().add(mazeGrid.asNode());
+        mazeContainer = center;
         
         // Right sidebar
         VBox rightSidebar = new VBox(15);
@@ -162,6 +164,21 @@ public class MazeSolverApp {
             case A_STAR:
                 text = "A* AI Algorithm Visualization";
                 break;
+            case JUMP_POINT:
+                text = "Jump Point Search Visualization";
+                break;
+            case BIDIRECTIONAL_BFS:
+                text = "Bidirectional BFS Visualization";
+                break;
+            case BIDIRECTIONAL_A_STAR:
+                text = "Bidirectional A* Visualization";
+                break;
+            case D_STAR_LITE:
+                text = "D* Lite Incremental Replanning";
+                break;
+            case CORRIDOR_GRAPH:
+                text = "Corridor Graph Search Visualization";
+                break;
         }
         subtitle.setText(text);
         subtitle.setStyle("-fx-font-size: 12px; -fx-text-fill: #666;");
@@ -169,19 +186,18 @@ public class MazeSolverApp {
 
     private void createUI() {
         // Create maze grid
-        mazeGrid = new MazeGrid(GRID_SIZE);
+        mazeGrid = createMazeView(gridWidth, gridHeight);
         mazeGrid.setCellStates(cellStates);
-        mazeGrid.setOnCellClick((x, y) -> toggleCell(x, y));
-        mazeGrid.setOnSetStart((x, y) -> setStartPosition(x, y));
-        mazeGrid.setOnSetEnd((x, y) -> setEndPosition(x, y));
         
         // Create control panel
         controlPanel = new ControlPanel();
+        controlPanel.setGridSize(gridWidth, gridHeight);
         controlPanel.setOnStart(() -> startAlgorithm());
         controlPanel.setOnPause(() -> pauseAlgorithm());
         controlPanel.setOnStepForward(() -> stepForward());
         controlPanel.setOnReset(() -> reset());
         controlPanel.setOnClear(() -> clearMaze());
+        controlPanel.setOnGenerate(() -> generateMaze());
         controlPanel.setOnSpeedChange(() -> {
             currentSpeed = controlPanel.getSpeed();
             if (solver != null) {
@@ -224,65 +240,138 @@ public class MazeSolverApp {
                 loadPreset(preset);
             }
         });
+        presetSelector.setOnOpen(() -> openMazeFile());
+        presetSelector.setOnSave(() -> saveMazeFile());
     }
 
+    private MazeView createMazeView(int width, int height) {
+        MazeView view;
+        if ((long) width * height > MAX_NODE_GRID_CELLS) {
+            view = new CanvasMazeGrid(width, height);
+        } else {
+            view = new MazeGrid(width, height);
+        }
+        view.setOnCellClick((x, y) -> toggleCell(x, y));
+        view.setOnSetStart((x, y) -> setStartPosition(x, y));
+        view.setOnSetEnd((x, y) -> setEndPosition(x, y));
+        return view;
+    }
+
+    // Swaps in a maze view sized for the current grid
+    private void replaceMazeView() {
+        mazeGrid = createMazeView(gridWidth, gridHeight);
+        mazeContainer.getChildren().setAll(mazeGrid.asNode());
+    }
 
     private void toggleCell(int x, int y) {
-        if (solver != null && solver.getAlgorithmState() != AlgorithmState.IDLE) return;
+        boolean replanning = solver != null && solver.getAlgorithmState() != AlgorithmState.IDLE;
+        if (replanning && !solver.canReplan()) return;
         if ((x == start.getX() && y == start.getY()) || (x == end.getX() && y == end.getY())) return;
         
-        grid[y][x] = grid[y][x] == 0 ? 1 : 0;
-        cellStates[y][x] = cellStates[y][x] == CellState.WALL ? CellState.EMPTY : CellState.WALL;
+        grid.toggle(x, y);
+        if (connectivity != null) {
+            connectivity.cellChanged(x, y);
+        }
+        cellStates.set(x, y, grid.isWall(x, y) ? CellState.WALL : CellState.EMPTY);
+        if (replanning) {
+            // The solver shares the grid and redraws its own cell states
+            solver.replan(x, y);
+            mazeGrid.setEditingDisabled(true);
+            return;
+        }
         mazeGrid.setCellStates(cellStates);
     }
 
     private void setStartPosition(int x, int y) {
         if (solver != null && solver.getAlgorithmState() != AlgorithmState.IDLE) return;
-        if (grid[y][x] == 1) return;
+        if (grid.isWall(x, y)) return;
         if (x == end.getX() && y == end.getY()) return;
         
-        cellStates[start.getY()][start.getX()] = CellState.EMPTY;
+        cellStates.set(start.getX(), start.getY(), CellState.EMPTY);
         start = new Position(x, y);
-        cellStates[y][x] = CellState.START;
+        cellStates.set(x, y, CellState.START);
         mazeGrid.setCellStates(cellStates);
     }
 
     private void setEndPosition(int x, int y) {
         if (solver != null && solver.getAlgorithmState() != AlgorithmState.IDLE) return;
-        if (grid[y][x] == 1) return;
+        if (grid.isWall(x, y)) return;
         if (x == start.getX() && y == start.getY()) return;
         
-        cellStates[end.getY()][end.getX()] = CellState.EMPTY;
+        cellStates.set(end.getX(), end.getY(), CellState.EMPTY);
         end = new Position(x, y);
-        cellStates[y][x] = CellState.END;
+        cellStates.set(x, y, CellState.END);
         mazeGrid.setCellStates(cellStates);
     }
 
     private void loadPreset(MazePreset preset) {
+        loadMaze(Maze.fromPreset(preset));
+    }
+
+    private void loadMaze(Maze maze) {
         // Stop algorithm immediately if running
         if (solver != null) {
             solver.stopAlgorithm();
             solver = null; // Clear solver reference
         }
         
-        // Load preset data - create new Position objects to avoid reference issues
-        grid = copyGrid(preset.getGrid());
-        start = new Position(preset.getStart().getX(), preset.getStart().getY());
-        end = new Position(preset.getEnd().getX(), preset.getEnd().getY());
+        // Load maze data - create new Position objects to avoid reference issues
+        boolean resized = maze.getWidth() != gridWidth || maze.getHeight() != gridHeight;
+        setGrid(maze.getGrid());
+        start = new Position(maze.getStart().getX(), maze.getStart().getY());
+        end = new Position(maze.getEnd().getX(), maze.getEnd().getY());
         
         // Initialize cell states
         initializeCellStates();
         
         // Update UI - ensure we're on JavaFX thread
         Platform.runLater(() -> {
+            if (resized) {
+                replaceMazeView();
+            }
             updatePresetUI();
         });
     }
     
+    private void openMazeFile() {
+        FileChooser chooser = createMazeFileChooser("Open Maze");
+        File file = chooser.showOpenDialog(stage);
+        if (file == null) return;
+        try {
+            loadMaze(MazeFiles.read(file.toPath()));
+        } catch (IOException | RuntimeException e) {
+            showErrorDialog("Could not open maze", e.getMessage());
+        }
+    }
+
+    private void saveMazeFile() {
+        FileChooser chooser = createMazeFileChooser("Save Maze");
+        chooser.getExtensionFilters().remove(1); // saving always writes the binary format
+        File file = chooser.showSaveDialog(stage);
+        if (file == null) return;
+        try {
+            MazeFiles.writeBinary(file.toPath(), new Maze(file.getName(), grid, start, end));
+        } catch (IOException e) {
+            showErrorDialog("Could not save maze", e.getMessage());
+        }
+    }
+
+    private FileChooser createMazeFileChooser(String title) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle(title);
+        chooser.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("Maze files (*.maze)", "*.maze"),
+            new FileChooser.ExtensionFilter("ASCII mazes (*.txt)", "*.txt"),
+            new FileChooser.ExtensionFilter("All files", "*.*"));
+        return chooser;
+    }
+
     private void updatePresetUI() {
+        controlPanel.setGridSize(gridWidth, gridHeight);
         mazeGrid.setCellStates(cellStates);
         mazeGrid.setCurrentPosition(null);
         mazeGrid.setEditingDisabled(false);
+        dataStructureSelector.setRadioButtonsDisabled(false);
         
         // Reset stats and visualization
         statsDashboard.updateStats(new MazeStats());
@@ -297,18 +386,25 @@ public class MazeSolverApp {
             solver = null; // Clear solver reference
         }
         
-        // Create completely empty grid (all zeros - no walls)
-        grid = MazePresets.createEmptyGrid(GRID_SIZE, GRID_SIZE);
+        // Create a completely empty grid (no walls) with the requested size
+        int width = controlPanel.getGridWidth();
+        int height = controlPanel.getGridHeight();
+        boolean resized = width != gridWidth || height != gridHeight;
+        setGrid(new BitGrid(width, height));
         
         // Reset start and end positions
         start = new Position(0, 0);
-        end = new Position(GRID_SIZE - 1, GRID_SIZE - 1);
+        end = new Position(width - 1, height - 1);
         
         // Initialize cell states - this will set all cells to EMPTY except start and end
         initializeCellStates();
         
         // Force UI update immediately on JavaFX thread
         Platform.runLater(() -> {
+            if (resized) {
+                replaceMazeView();
+            }
+            
             // Ensure all cells are properly updated
             mazeGrid.setCellStates(cellStates);
             mazeGrid.setCurrentPosition(null);
@@ -324,34 +420,43 @@ public class MazeSolverApp {
         });
     }
 
+    private void generateMaze() {
+        loadMaze(MazeGenerators.generate(controlPanel.getGeneratorType(),
+            controlPanel.getGridWidth(), controlPanel.getGridHeight(), controlPanel.getSeed()));
+    }
+
     private void startAlgorithm() {
         if (solver != null && solver.getAlgorithmState() == AlgorithmState.RUNNING) {
             return;
         }
         
         // Create new solver with current state
-        CellState[][] statesCopy = new CellState[GRID_SIZE][GRID_SIZE];
-        for (int i = 0; i < GRID_SIZE; i++) {
-            statesCopy[i] = cellStates[i].clone();
+        solver = new MazeSolver(grid, cellStates.copy(), start, end, currentDataType, currentSpeed);
+        solver.setTurboMode(controlPanel.isTurboMode());
+        solver.setDeadEndFilling(controlPanel.isDeadEndFilling());
+        if (connectivity == null) {
+            connectivity = new ConnectivityIndex(grid);
         }
-        
-        solver = new MazeSolver(grid, statesCopy, start, end, currentDataType, currentSpeed);
+        solver.setConnectivityIndex(connectivity);
+        solver.setCorridorGraphCache(corridorGraphs);
+        // Solver callbacks already arrive on the JavaFX thread, at most once per frame.
+        // A delivery can land after the solver was replaced, so stale ones are dropped.
+        final MazeSolver current = solver;
         solver.setOnStateChanged(() -> {
-            Platform.runLater(() -> {
-                controlPanel.updateState(solver.getAlgorithmState());
-                updateVisualization();
-            });
+            if (solver != current) return;
+            controlPanel.updateState(current.getAlgorithmState());
+            updateVisualization();
+            if (current.canReplan()) {
+                mazeGrid.setEditingDisabled(false); // walls can be edited and replanned
+            }
         });
         solver.setOnStatsChanged(() -> {
-            Platform.runLater(() -> {
-                statsDashboard.updateStats(solver.getStats());
-            });
+            if (solver != current) return;
+            statsDashboard.updateStats(current.getStats());
         });
         solver.setOnCellStatesChanged(() -> {
-            Platform.runLater(() -> {
-                mazeGrid.setCellStates(solver.getCellStates());
-                mazeGrid.setCurrentPosition(solver.getCurrentPosition());
-            });
+            if (solver != current) return;
+            mazeGrid.updateCells(current.drainCellChanges());
         });
         
         solver.startAlgorithm();
@@ -376,14 +481,14 @@ public class MazeSolverApp {
             return;
         }
         
-        solver.stepForward();
-        updateVisualization();
+        solver.stepForward(); // its state change refreshes the frontier view
     }
 
     private void reset() {
         // Stop algorithm if running
         if (solver != null) {
             solver.stopAlgorithm();
+            solver = null; // Drop deliveries still queued for the stopped run
         }
         
         // Reset cell states to original grid
@@ -404,24 +509,23 @@ public class MazeSolverApp {
     private void updateVisualization() {
         if (solver == null) return;
         
-        List<Position> positions;
+        FrontierSnapshot frontier = solver.getFrontier();
         switch (currentDataType) {
-            case STACK:
-                positions = solver.getStack();
-                break;
-            case QUEUE:
-                positions = solver.getQueue();
-                break;
-            case LINKED_LIST:
-                positions = solver.getLinkedList();
-                break;
-            case A_STAR:
-                positions = solver.getAStarOpenSet();
+            case BIDIRECTIONAL_BFS:
+            case BIDIRECTIONAL_A_STAR:
+                dataStructureViz.updateBidirectional(frontier.getForwardFrontier(), frontier.getBackwardFrontier());
                 break;
             default:
-                positions = java.util.Collections.emptyList();
+                dataStructureViz.update(frontier.getFrontier());
         }
-        dataStructureViz.update(positions);
+    }
+
+    private void showErrorDialog(String header, String message) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Maze File");
+        alert.setHeaderText(header);
+        alert.setContentText(message);
+        alert.showAndWait();
     }
 
     private void showInfoDialog() {
@@ -433,12 +537,17 @@ public class MazeSolverApp {
             "• Stack (DFS): Explores deep paths first, uses LIFO\n" +
             "• Queue (BFS): Explores level by level, uses FIFO\n" +
             "• Linked List: Sequential traversal with node connections\n" +
-            "• A* (AI): Intelligent search using heuristic function\n\n" +
+            "• A* (AI): Intelligent search using heuristic function\n" +
+            "• Jump Point Search: A* that skips straight runs of open cells\n" +
+            "• Bidirectional BFS / A*: Search from both ends and meet in the middle\n" +
+            "• D* Lite: After solving, click cells to edit walls and replan incrementally\n\n" +
             "Controls:\n" +
             "• Click cells to toggle walls\n" +
             "• Shift+Click to set start position\n" +
             "• Alt+Click to set end position\n" +
-            "• Use presets for quick demos"
+            "• Use presets for quick demos\n" +
+            "• Generate Maze builds a maze of the chosen size from a generator and seed\n" +
+            "• Open loads .maze files or ASCII mazes (# wall, . open, S start, E end)"
         );
         alert.showAndWait();
     }
@@ -0,0 +1,37 @@
+package com.mazesolver.model;
+
+/**
+ * Result of one maze in a batch: its position in the input, its id and the solve outcome.
+ * The grid itself is not retained, so collected results stay small.
+ */
+public class BatchResult {
+    private final int index;
+    private final String mazeId;
+    private final SolveResult result;
+
+    public BatchResult(int index, String mazeId, SolveResult result) {
+        this.index = index;
+        this.mazeId = mazeId;
+        this.result = result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getMazeId() {
+        return mazeId;
+    }
+
+    public SolveResult getResult() {
+        return result;
+    }
+
+    public MazeStats getStats() {
+        return result.getStats();
+    }
+
+    public MazePath getPath() {
+        return result.getPath();
+    }
+}
@@ -0,0 +1,199 @@
+package com.mazesolver.model;
+
+import java.util.Arrays;
+
+/**
+ * Wall grid with one bit per cell (1 = wall). Each row starts on a fresh {@code long}
+ * word, so a row is {@code ceil(width / 64)} words and a 10,000 x 10,000 maze takes
+ * about 12.5 MB instead of 400 MB as {@code int[][]}. Out-of-bounds cells count as walls.
+ */
+public final class BitGrid {
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] words;
+    private int version = 0;
+
+    /**
+     * Creates a grid of the given size with no walls.
+     */
+    public BitGrid(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Grid size must be positive: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = wordsPerRow(width);
+        this.words = new long[Math.multiplyExact(wordsPerRow, height)];
+    }
+
+    private BitGrid(BitGrid source) {
+        this.width = source.width;
+        this.height = source.height;
+        this.wordsPerRow = source.wordsPerRow;
+        this.words = source.words.clone();
+    }
+
+    /**
+     * Adapter for {@code int[][]} grids indexed {@code [y][x]}, where any non-zero value is a wall.
+     */
+    public static BitGrid fromArray(int[][] grid) {
+        BitGrid bits = new BitGrid(grid[0].length, grid.length);
+        for (int y = 0; y < bits.height; y++) {
+            int[] row = grid[y];
+            int base = y * bits.wordsPerRow;
+            for (int x = 0; x < bits.width; x++) {
+                if (row[x] != 0) {
+                    bits.words[base + (x >>> 6)] |= 1L << x;
+                }
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Copies row {@code y} into {@code row}, which must hold {@link #wordsPerRow(int)} words.
+     */
+    public void getRow(int y, long[] row) {
+        System.arraycopy(words, y * wordsPerRow, row, 0, wordsPerRow);
+    }
+
+    /**
+     * Replaces row {@code y} with {@code row}; bits beyond the width are ignored.
+     */
+    public void setRow(int y, long[] row) {
+        version++;
+        int base = y * wordsPerRow;
+        System.arraycopy(row, 0, words, base, wordsPerRow);
+        int tail = width & 63;
+        if (tail != 0) {
+            words[base + wordsPerRow - 1] &= (1L << tail) - 1;
+        }
+    }
+
+    public static int wordsPerRow(int width) {
+        return (width + 63) >>> 6;
+    }
+
+    /**
+     * Number of words a grid of this size occupies.
+     */
+    public static long wordCount(int width, int height) {
+        return (long) wordsPerRow(width) * height;
+    }
+
+    public int[][] toArray() {
+        int[][] grid = new int[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                grid[y][x] = isWallUnchecked(x, y) ? 1 : 0;
+            }
+        }
+        return grid;
+    }
+
+    public BitGrid copy() {
+        return new BitGrid(this);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Counts edits to this grid, so data derived from it can tell when it is out of date.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Fast path for neighbor checks: {@code false} for walls and for cells outside the grid.
+     */
+    public boolean isOpen(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height
+            && (words[y * wordsPerRow + (x >>> 6)] & (1L << x)) == 0;
+    }
+
+    public boolean isWall(int x, int y) {
+        return !isOpen(x, y);
+    }
+
+    /**
+     * Wall test by packed cell index ({@code y * width + x}); the cell must be inside the grid.
+     */
+    public boolean isWallCell(int cell) {
+        return isWallUnchecked(cell % width, cell / width);
+    }
+
+    public void setWall(int x, int y, boolean wall) {
+        checkBounds(x, y);
+        version++;
+        int index = y * wordsPerRow + (x >>> 6);
+        if (wall) {
+            words[index] |= 1L << x;
+        } else {
+            words[index] &= ~(1L << x);
+        }
+    }
+
+    /**
+     * Makes every cell a wall or every cell open.
+     */
+    public void fill(boolean wall) {
+        version++;
+        if (!wall) {
+            Arrays.fill(words, 0L);
+            return;
+        }
+        Arrays.fill(words, -1L);
+        int tail = width & 63;
+        if (tail != 0) {
+            // Keep the bits past the last column clear, as countWalls and equals expect
+            for (int i = wordsPerRow - 1; i < words.length; i += wordsPerRow) {
+                words[i] = (1L << tail) - 1;
+            }
+        }
+    }
+
+    public void toggle(int x, int y) {
+        checkBounds(x, y);
+        version++;
+        words[y * wordsPerRow + (x >>> 6)] ^= 1L << x;
+    }
+
+    public int countWalls() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private boolean isWallUnchecked(int x, int y) {
+        return (words[y * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    private void checkBounds(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            throw new IndexOutOfBoundsException("Cell (" + x + ", " + y + ") outside " + width + "x" + height);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        BitGrid other = (BitGrid) obj;
+        return width == other.width && height == other.height && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * width + height) + Arrays.hashCode(words);
+    }
+}
@@ -0,0 +1,247 @@
+package com.mazesolver.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Display state of every cell, one byte per cell holding the {@link CellState} ordinal,
+ * indexed by {@code y * width + x}. It also records which cells changed since the
+ * renderer last drained it.
+ *
+ * <p>The solver thread writes while the FX thread renders, so a write and its change
+ * mark happen under one lock and {@link #drain()} hands the renderer an immutable
+ * {@link Snapshot} of the changed cells, together with the search's current cell. The
+ * renderer never reads the live buffer, so it cannot see a cell half way through a step
+ * or a current cell that does not match the states.</p>
+ *
+ * <p>A writer that publishes nothing until it is done (a turbo run) can suspend change
+ * tracking: writes then skip the lock and the change record, and resuming flags the
+ * whole buffer as changed once. Resuming is the publish point: it takes the same lock
+ * as {@link #drain()}, so a drain after it sees every write made while suspended. A drain
+ * during the suspension races only with single-byte writes and may return stale
+ * states, which the drain after resuming replaces.</p>
+ */
+public final class CellStateBuffer {
+    private static final CellState[] STATES = CellState.values();
+
+    private final int width;
+    private final int height;
+    private final byte[] codes;
+
+    // Cells changed since the last drain, each recorded once
+    private final BitSet marked;
+    private int[] changes = new int[64];
+    private int changeCount = 0;
+    private boolean allChanged = true;
+    private int current = -1;  // cell the search is working on, -1 for none
+    // Only touched by the writing thread, between suspend and resume
+    private boolean tracking = true;
+
+    public CellStateBuffer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.codes = new byte[Math.multiplyExact(width, height)];
+        this.marked = new BitSet(codes.length);
+    }
+
+    private CellStateBuffer(CellStateBuffer source) {
+        this.width = source.width;
+        this.height = source.height;
+        this.codes = source.codes.clone();
+        this.marked = new BitSet(codes.length);
+        this.current = source.current;
+    }
+
+    /**
+     * Initial states for a maze: start, end, walls, everything else empty.
+     */
+    public static CellStateBuffer of(BitGrid grid, Position start, Position end) {
+        CellStateBuffer buffer = new CellStateBuffer(grid.getWidth(), grid.getHeight());
+        buffer.reset(grid, start, end);
+        return buffer;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public synchronized CellState get(int x, int y) {
+        return STATES[codes[y * width + x]];
+    }
+
+    public synchronized CellState get(int cell) {
+        return STATES[codes[cell]];
+    }
+
+    public void set(int x, int y, CellState state) {
+        set(y * width + x, state);
+    }
+
+    public void set(int cell, CellState state) {
+        byte code = (byte) state.ordinal();
+        if (!tracking) {
+            codes[cell] = code;
+            return;
+        }
+        synchronized (this) {
+            if (codes[cell] == code) return;
+            codes[cell] = code;
+            if (allChanged || marked.get(cell)) return;
+            marked.set(cell);
+            if (changeCount == changes.length) {
+                changes = Arrays.copyOf(changes, changeCount * 2);
+            }
+            changes[changeCount++] = cell;
+        }
+    }
+
+    /**
+     * Sets the cell shown as the search's current position, {@code -1} for none. It is
+     * drained with the states, so the highlight always matches them.
+     *
+     * @return whether the current cell changed
+     */
+    public boolean setCurrent(int cell) {
+        if (!tracking) {
+            boolean changed = current != cell;
+            current = cell;
+            return changed;
+        }
+        synchronized (this) {
+            boolean changed = current != cell;
+            current = cell;
+            return changed;
+        }
+    }
+
+    /**
+     * Stops recording changes: until {@link #resumeChangeTracking()}, writes from the
+     * calling thread go straight to the buffer without locking. A drain in between may
+     * return stale states; resuming corrects them.
+     */
+    public void suspendChangeTracking() {
+        tracking = false;
+    }
+
+    /**
+     * Records changes again and flags the whole buffer as changed, so the next drain
+     * returns every cell as written while tracking was suspended.
+     */
+    public synchronized void resumeChangeTracking() {
+        tracking = true;
+        markAll();
+    }
+
+    /**
+     * Rewrites every cell from the grid in bulk and flags the whole buffer as changed.
+     */
+    public synchronized void reset(BitGrid grid, Position start, Position end) {
+        byte empty = (byte) CellState.EMPTY.ordinal();
+        byte wall = (byte) CellState.WALL.ordinal();
+        Arrays.fill(codes, empty);
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            for (int x = 0; x < width; x++) {
+                if (grid.isWall(x, y)) {
+                    codes[row + x] = wall;
+                }
+            }
+        }
+        codes[end.getY() * width + end.getX()] = (byte) CellState.END.ordinal();
+        codes[start.getY() * width + start.getX()] = (byte) CellState.START.ordinal();
+        current = -1;
+        markAll();
+    }
+
+    private void markAll() {
+        allChanged = true;
+        marked.clear();
+        changeCount = 0;
+    }
+
+    public synchronized CellStateBuffer copy() {
+        return new CellStateBuffer(this);
+    }
+
+    /**
+     * Returns the cells changed since the previous drain, with their states at this
+     * moment, and starts a new change record.
+     */
+    public synchronized Snapshot drain() {
+        Snapshot snapshot;
+        if (allChanged) {
+            snapshot = new Snapshot(width, null, codes.clone(), current);
+            allChanged = false;
+        } else {
+            int[] cells = Arrays.copyOf(changes, changeCount);
+            byte[] states = new byte[cells.length];
+            for (int i = 0; i < cells.length; i++) {
+                states[i] = codes[cells[i]];
+                marked.clear(cells[i]);
+            }
+            snapshot = new Snapshot(width, cells, states, current);
+        }
+        changeCount = 0;
+        return snapshot;
+    }
+
+    /**
+     * Returns every cell's current state without touching the change record.
+     */
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(width, null, codes.clone(), current);
+    }
+
+    /**
+     * Immutable set of cells and their states, with the current cell at the same moment;
+     * safe to read on any thread.
+     */
+    public static final class Snapshot {
+        private final int width;
+        private final int[] cells;   // null: every cell, in index order
+        private final byte[] states;
+        private final int current;
+
+        private Snapshot(int width, int[] cells, byte[] states, int current) {
+            this.width = width;
+            this.cells = cells;
+            this.states = states;
+            this.current = current;
+        }
+
+        /**
+         * The search's current position when the snapshot was taken, or {@code null}.
+         */
+        public Position getCurrentPosition() {
+            return current < 0 ? null : new Position(current % width, current / width);
+        }
+
+        public int size() {
+            return states.length;
+        }
+
+        public boolean isFull() {
+            return cells == null;
+        }
+
+        public int getCell(int i) {
+            return cells == null ? i : cells[i];
+        }
+
+        public int getX(int i) {
+            return getCell(i) % width;
+        }
+
+        public int getY(int i) {
+            return getCell(i) / width;
+        }
+
+        public CellState getState(int i) {
+            return STATES[states[i]];
+        }
+    }
+}
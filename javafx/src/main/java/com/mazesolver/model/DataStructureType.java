@@ -4,6 +4,11 @@ public enum DataStructureType {
     STACK,
     QUEUE,
     LINKED_LIST,
-    A_STAR  // AI Algorithm - A* Search
+    A_STAR,  // AI Algorithm - A* Search
+    JUMP_POINT,  // Jump Point Search - A* over pruned jump points
+    BIDIRECTIONAL_BFS,  // Two BFS frontiers growing from start and end
+    BIDIRECTIONAL_A_STAR,  // Two A* searches meeting in the middle
+    D_STAR_LITE,  // Incremental search that replans after walls change
+    CORRIDOR_GRAPH  // A* over junctions, with corridors collapsed into weighted edges
 }
 
@@ -0,0 +1,39 @@
+package com.mazesolver.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Copy of a search's frontier taken on the thread running the search, safe to read on
+ * any other. One-directional strategies fill {@link #getFrontier()}, the bidirectional
+ * ones the forward and backward frontiers.
+ */
+public final class FrontierSnapshot {
+    public static final FrontierSnapshot EMPTY = new FrontierSnapshot(
+        Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+    private final List<Position> frontier;
+    private final List<Position> forward;
+    private final List<Position> backward;
+
+    public FrontierSnapshot(List<Position> frontier, List<Position> forward, List<Position> backward) {
+        this.frontier = Collections.unmodifiableList(frontier);
+        this.forward = Collections.unmodifiableList(forward);
+        this.backward = Collections.unmodifiableList(backward);
+    }
+
+    /**
+     * Stack, queue, list or open set of a one-directional strategy, in its own order.
+     */
+    public List<Position> getFrontier() {
+        return frontier;
+    }
+
+    public List<Position> getForwardFrontier() {
+        return forward;
+    }
+
+    public List<Position> getBackwardFrontier() {
+        return backward;
+    }
+}
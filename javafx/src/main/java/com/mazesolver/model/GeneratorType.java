@@ -0,0 +1,9 @@
+package com.mazesolver.model;
+
+public enum GeneratorType {
+    BACKTRACKER,  // Recursive backtracker: long winding corridors, few junctions
+    PRIM,  // Randomized Prim: grows from one cell, many short dead ends
+    KRUSKAL,  // Randomized Kruskal: merges random regions with union-find
+    ELLER,  // Eller's algorithm: built one row at a time
+    CAVES  // Cellular automaton caves: open areas instead of corridors
+}
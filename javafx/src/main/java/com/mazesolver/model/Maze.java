@@ -0,0 +1,48 @@
+package com.mazesolver.model;
+
+/**
+ * A maze loaded from or saved to a file: its walls plus start and end.
+ * Unlike {@link MazePreset} the walls are kept bit-packed, so large mazes fit in memory.
+ */
+public class Maze {
+    private final String name;
+    private final BitGrid grid;
+    private final Position start;
+    private final Position end;
+
+    public Maze(String name, BitGrid grid, Position start, Position end) {
+        this.name = name;
+        this.grid = grid;
+        this.start = start;
+        this.end = end;
+    }
+
+    public static Maze fromPreset(MazePreset preset) {
+        return new Maze(preset.getName(), BitGrid.fromArray(preset.getGrid()),
+            preset.getStart(), preset.getEnd());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BitGrid getGrid() {
+        return grid;
+    }
+
+    public int getWidth() {
+        return grid.getWidth();
+    }
+
+    public int getHeight() {
+        return grid.getHeight();
+    }
+
+    public Position getStart() {
+        return start;
+    }
+
+    public Position getEnd() {
+        return end;
+    }
+}
@@ -0,0 +1,122 @@
+package com.mazesolver.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable path through a maze, stored as packed cell indices ({@code y * width + x})
+ * from start to end. Built once by the solver and shared by the UI and exports.
+ */
+public final class MazePath {
+    public static final MazePath EMPTY = new MazePath(new int[0], 1);
+
+    private final int[] cells;
+    private final int width;
+
+    private MazePath(int[] cells, int width) {
+        this.cells = cells;
+        this.width = width;
+    }
+
+    /**
+     * Walks a parent array back from {@code endCell} (the root has parent -1).
+     * The path is counted first so the cells are written straight into a buffer
+     * of the exact size, back to front, in O(length).
+     */
+    public static MazePath fromParents(int[] parent, int endCell, int width) {
+        int length = 0;
+        for (int cell = endCell; cell != -1; cell = parent[cell]) {
+            length++;
+        }
+        int[] cells = new int[length];
+        int index = length;
+        for (int cell = endCell; cell != -1; cell = parent[cell]) {
+            cells[--index] = cell;
+        }
+        return new MazePath(cells, width);
+    }
+
+    public static MazePath fromPositions(List<Position> positions, int width) {
+        int[] cells = new int[positions.size()];
+        for (int i = 0; i < cells.length; i++) {
+            Position pos = positions.get(i);
+            cells[i] = pos.getY() * width + pos.getX();
+        }
+        return new MazePath(cells, width);
+    }
+
+    /**
+     * Wraps cells that are already in start-to-end order; the array is not copied.
+     */
+    public static MazePath ofCells(int[] cells, int width) {
+        return new MazePath(cells, width);
+    }
+
+    public int length() {
+        return cells.length;
+    }
+
+    public boolean isEmpty() {
+        return cells.length == 0;
+    }
+
+    public int getCell(int index) {
+        return cells[index];
+    }
+
+    public int getX(int index) {
+        return cells[index] % width;
+    }
+
+    public int getY(int index) {
+        return cells[index] / width;
+    }
+
+    public Position get(int index) {
+        return new Position(getX(index), getY(index));
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int[] toCellArray() {
+        return cells.clone();
+    }
+
+    /**
+     * Read-only list view; positions are created on access.
+     */
+    public List<Position> asList() {
+        return new AbstractList<Position>() {
+            @Override
+            public Position get(int index) {
+                return MazePath.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return cells.length;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        MazePath other = (MazePath) obj;
+        return width == other.width && Arrays.equals(cells, other.cells);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * width + Arrays.hashCode(cells);
+    }
+
+    @Override
+    public String toString() {
+        return "MazePath[length=" + cells.length + "]";
+    }
+}
@@ -27,6 +27,14 @@ public class MazePreset {
         return grid;
     }
 
+    public int getWidth() {
+        return grid[0].length;
+    }
+
+    public int getHeight() {
+        return grid.length;
+    }
+
     public Position getStart() {
         return start;
     }
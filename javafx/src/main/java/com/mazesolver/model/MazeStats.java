@@ -6,6 +6,7 @@ public class MazeStats {
     private int cellsVisited;
     private int pathLength;
     private long timeElapsed;
+    private int cellsPruned;
 
     public MazeStats() {
         reset();
@@ -17,6 +18,7 @@ public class MazeStats {
         cellsVisited = 0;
         pathLength = 0;
         timeElapsed = 0;
+        cellsPruned = 0;
     }
 
     public int getStepsTaken() {
@@ -66,5 +68,15 @@ public class MazeStats {
     public void setTimeElapsed(long timeElapsed) {
         this.timeElapsed = timeElapsed;
     }
-}
 
+    /**
+     * Cells removed by dead-end filling before the search started.
+     */
+    public int getCellsPruned() {
+        return cellsPruned;
+    }
+
+    public void setCellsPruned(int cellsPruned) {
+        this.cellsPruned = cellsPruned;
+    }
+}
@@ -0,0 +1,33 @@
+package com.mazesolver.model;
+
+/**
+ * Outcome of a complete solve: final state, the path found (empty when there is none)
+ * and the statistics collected while searching.
+ */
+public class SolveResult {
+    private final AlgorithmState state;
+    private final MazePath path;
+    private final MazeStats stats;
+
+    public SolveResult(AlgorithmState state, MazePath path, MazeStats stats) {
+        this.state = state;
+        this.path = path != null ? path : MazePath.EMPTY;
+        this.stats = stats;
+    }
+
+    public AlgorithmState getState() {
+        return state;
+    }
+
+    public boolean isSolved() {
+        return state == AlgorithmState.FINISHED;
+    }
+
+    public MazePath getPath() {
+        return path;
+    }
+
+    public MazeStats getStats() {
+        return stats;
+    }
+}
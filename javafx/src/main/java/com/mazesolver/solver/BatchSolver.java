@@ -0,0 +1,125 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.model.BatchResult;
+import com.mazesolver.model.DataStructureType;
+import com.mazesolver.model.MazePreset;
+import com.mazesolver.model.SolveResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Solves many mazes in parallel with headless {@link SolverEngine}s on a fork-join pool.
+ * Input is pulled lazily and at most {@code maxInFlight} mazes are held at once, so a
+ * stream of generated mazes is solved in bounded memory.
+ */
+public class BatchSolver implements AutoCloseable {
+    private final ForkJoinPool pool;
+    private final int maxInFlight;
+
+    public BatchSolver() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchSolver(int parallelism) {
+        this(parallelism, parallelism * 2);
+    }
+
+    /**
+     * @param parallelism number of worker threads
+     * @param maxInFlight mazes submitted but not yet solved; bounds memory use
+     */
+    public BatchSolver(int parallelism, int maxInFlight) {
+        if (parallelism < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("parallelism and maxInFlight must be positive");
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.maxInFlight = maxInFlight;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Solves every maze of the stream and hands each result to {@code sink} as it
+     * completes, so in completion order. Calls to the sink are serialized and it does
+     * not need to be thread-safe. Returns once all mazes are solved.
+     *
+     * @throws IllegalStateException if a solve failed; no further mazes are submitted after a failure
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     * @throws java.util.concurrent.RejectedExecutionException if this solver has been closed
+     */
+    public void solve(Stream<MazePreset> mazes, DataStructureType type, Consumer<BatchResult> sink)
+            throws InterruptedException {
+        Semaphore permits = new Semaphore(maxInFlight);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Object sinkLock = new Object();
+
+        int index = 0;
+        Iterator<MazePreset> iterator = mazes.iterator();
+        try {
+            while (failure.get() == null && iterator.hasNext()) {
+                permits.acquire();
+                try {
+                    MazePreset maze = iterator.next();
+                    int mazeIndex = index++;
+                    pool.execute(() -> {
+                        try {
+                            SolveResult result = new SolverEngine(maze.getGrid(), maze.getStart(),
+                                maze.getEnd(), type).solve();
+                            synchronized (sinkLock) {
+                                sink.accept(new BatchResult(mazeIndex, maze.getId(), result));
+                            }
+                        } catch (Throwable t) {
+                            failure.compareAndSet(null, t);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    // Nothing was submitted for this permit, so the final wait would never get it back
+                    permits.release();
+                    throw e;
+                }
+            }
+        } finally {
+            // Wait for the mazes already submitted, even when interrupted while submitting
+            permits.acquireUninterruptibly(maxInFlight);
+            permits.release(maxInFlight);
+        }
+
+        if (failure.get() != null) {
+            throw new IllegalStateException("Batch solve failed", failure.get());
+        }
+    }
+
+    /**
+     * Solves all mazes and returns their results in input order.
+     */
+    public List<BatchResult> solveAll(List<MazePreset> mazes, DataStructureType type)
+            throws InterruptedException {
+        List<BatchResult> results = new ArrayList<>(mazes.size());
+        solve(mazes.stream(), type, results::add);
+        results.sort(Comparator.comparingInt(BatchResult::getIndex));
+        return results;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.mazesolver.solver;
+
+import java.util.concurrent.Future;
+
+/**
+ * Cooperative cancellation for one scheduled run. The run polls {@link #isCancelled()}
+ * between steps; {@link #cancel()} also interrupts it so a sleeping run wakes at once.
+ */
+public class CancellationToken {
+    private volatile boolean cancelled = false;
+    private volatile Future<?> future;
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void cancel() {
+        cancelled = true;
+        Future<?> running = future;
+        if (running != null) {
+            running.cancel(true);
+        }
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+        if (cancelled) {
+            future.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.model.BitGrid;
+
+import java.util.Arrays;
+
+/**
+ * Connected components of a grid's open cells, so "is the end reachable at all?" is a
+ * label comparison instead of a search. Components are labeled by one flood fill and
+ * then kept up to date as walls change:
+ * <ul>
+ *   <li>Opening a cell joins the components around it in a union-find over the labels.</li>
+ *   <li>Adding a wall can only split a component if the open cells next to it are not
+ *       connected through its other neighbors. When they might not be, the labels are
+ *       rebuilt by the next query.</li>
+ * </ul>
+ * Cells are identified by {@code y * width + x}. The caller edits the grid and then
+ * reports the cell with {@link #cellChanged(int, int)}.
+ */
+public class ConnectivityIndex {
+    private static final int WALL = -1;
+    // The 8 cells around a cell in ring order; consecutive ones are 4-adjacent,
+    // and even positions are the cell's own 4-neighbors
+    private static final int[] RING_X = {0, 1, 1, 1, 0, -1, -1, -1};
+    private static final int[] RING_Y = {-1, -1, 0, 1, 1, 1, 0, -1};
+
+    private final BitGrid grid;
+    private final int width;
+    private final int[] label;
+    private int[] parent = new int[16];  // union-find over labels
+    private int labelCount = 0;
+    private boolean stale = true;
+
+    public ConnectivityIndex(BitGrid grid) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.label = new int[width * grid.getHeight()];
+    }
+
+    /**
+     * Whether an open path joins the two cells. Constant time unless a wall added since
+     * the last query may have split a component; then the labels are rebuilt first.
+     */
+    public synchronized boolean isConnected(int from, int to) {
+        if (stale) {
+            relabel();
+        }
+        return label[from] != WALL && label[to] != WALL && find(label[from]) == find(label[to]);
+    }
+
+    /**
+     * Updates the components after the cell at (x, y) became a wall or open.
+     */
+    public synchronized void cellChanged(int x, int y) {
+        if (stale) {
+            return;
+        }
+        int cell = y * width + x;
+        if (grid.isOpen(x, y)) {
+            if (label[cell] != WALL) {
+                return;
+            }
+            int id = newLabel();
+            label[cell] = id;
+            for (int i = 0; i < 8; i += 2) {
+                int nx = x + RING_X[i];
+                int ny = y + RING_Y[i];
+                if (grid.isOpen(nx, ny)) {
+                    union(id, label[ny * width + nx]);
+                }
+            }
+        } else {
+            if (label[cell] == WALL) {
+                return;
+            }
+            label[cell] = WALL;
+            if (!neighborsStayConnected(x, y)) {
+                stale = true;
+            }
+        }
+    }
+
+    /**
+     * Local test for a new wall at (x, y): its open 4-neighbors stay connected if they all
+     * lie in one run of open cells going around it. If they do not, they may still be
+     * connected further away, which only a rebuild can tell.
+     */
+    private boolean neighborsStayConnected(int x, int y) {
+        int firstWall = -1;
+        for (int i = 0; i < 8 && firstWall < 0; i++) {
+            if (!grid.isOpen(x + RING_X[i], y + RING_Y[i])) {
+                firstWall = i;
+            }
+        }
+        if (firstWall < 0) {
+            return true;  // the whole ring is open
+        }
+
+        int runsWithNeighbor = 0;
+        boolean inRun = false;
+        boolean runHasNeighbor = false;
+        for (int k = 1; k <= 8; k++) {
+            int i = (firstWall + k) & 7;
+            if (grid.isOpen(x + RING_X[i], y + RING_Y[i])) {
+                if (!inRun) {
+                    inRun = true;
+                    runHasNeighbor = false;
+                }
+                runHasNeighbor |= (i & 1) == 0;
+            } else {
+                if (inRun && runHasNeighbor) {
+                    runsWithNeighbor++;
+                }
+                inRun = false;
+            }
+        }
+        return runsWithNeighbor <= 1;
+    }
+
+    // One flood fill per component; each gets a fresh label
+    private void relabel() {
+        Arrays.fill(label, WALL);
+        labelCount = 0;
+        IntRingBuffer queue = new IntRingBuffer();
+        for (int cell = 0; cell < label.length; cell++) {
+            if (label[cell] != WALL || grid.isWallCell(cell)) {
+                continue;
+            }
+            int id = newLabel();
+            label[cell] = id;
+            queue.add(cell);
+            while (!queue.isEmpty()) {
+                int current = queue.poll();
+                int x = current % width;
+                int y = current / width;
+                for (int i = 0; i < 8; i += 2) {
+                    int nx = x + RING_X[i];
+                    int ny = y + RING_Y[i];
+                    if (grid.isOpen(nx, ny) && label[ny * width + nx] == WALL) {
+                        label[ny * width + nx] = id;
+                        queue.add(ny * width + nx);
+                    }
+                }
+            }
+        }
+        stale = false;
+    }
+
+    private int newLabel() {
+        if (labelCount == parent.length) {
+            parent = Arrays.copyOf(parent, labelCount * 2);
+        }
+        parent[labelCount] = labelCount;
+        return labelCount++;
+    }
+
+    // Path halving: every other node on the way up is pointed at its grandparent
+    private int find(int node) {
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA != rootB) {
+            parent[rootB] = rootA;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.model.BitGrid;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The grid compressed into a weighted graph. Nodes are the open cells with other than
+ * two open neighbors (junctions and dead ends) plus the start and end; every single-width
+ * corridor between two nodes becomes one edge weighted by its length in moves. Searching
+ * this graph visits a serpentine maze's junctions instead of all of its cells, and
+ * {@link #expand(int, int[], int)} turns an edge back into the cells it stands for.
+ *
+ * <p>Edges are stored per node in compressed-row form: the edges leaving the node with
+ * id {@code n} are {@code edgeOffset[n]} up to {@code edgeOffset[n + 1]}. Node ids follow
+ * cell order, so a cell's id is found by binary search in {@code nodeCells}. Corridors
+ * that close on themselves without touching a node are unreachable from any node and
+ * are left out.</p>
+ */
+public final class CorridorGraph {
+    // Same order as the direction codes stored per edge: right, down, left, up
+    private static final int[] DX = {1, 0, -1, 0};
+    private static final int[] DY = {0, 1, 0, -1};
+
+    private final BitGrid grid;
+    private final int width;
+    private final BitSet isNode;
+    private final int[] nodeCells;
+    private final int[] edgeOffset;
+    private final int[] edgeSource;  // cell of the node an edge leaves
+    private final int[] edgeTarget;  // cell of the node it reaches
+    private final int[] edgeLength;  // moves along the corridor
+    private final byte[] edgeDirection;  // first move out of the source
+    private final int cellsPruned;
+
+    /**
+     * Builds the graph of {@code grid}'s current walls. The two given cells are always
+     * nodes, so searches between them start and end on the graph. The graph reads the
+     * grid again when expanding edges, so the grid must not change while it is in use;
+     * {@link CorridorGraphCache} rebuilds it after edits.
+     */
+    public CorridorGraph(BitGrid grid, int startCell, int endCell) {
+        this(grid, startCell, endCell, 0);
+    }
+
+    /**
+     * @param cellsPruned dead-end cells filled on {@code grid} before the graph was built
+     */
+    CorridorGraph(BitGrid grid, int startCell, int endCell, int cellsPruned) {
+        this.grid = grid;
+        this.cellsPruned = cellsPruned;
+        this.width = grid.getWidth();
+        int cells = width * grid.getHeight();
+
+        isNode = new BitSet(cells);
+        int nodeCount = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            if (!grid.isWallCell(cell)
+                && (cell == startCell || cell == endCell || openNeighbors(cell) != 2)) {
+                isNode.set(cell);
+                nodeCount++;
+            }
+        }
+
+        nodeCells = new int[nodeCount];
+        edgeOffset = new int[nodeCount + 1];
+        int edgeCount = 0;
+        int node = 0;
+        for (int cell = isNode.nextSetBit(0); cell >= 0; cell = isNode.nextSetBit(cell + 1)) {
+            nodeCells[node++] = cell;
+            edgeCount += openNeighbors(cell);
+        }
+
+        int[] sources = new int[edgeCount];
+        int[] targets = new int[edgeCount];
+        int[] lengths = new int[edgeCount];
+        byte[] directions = new byte[edgeCount];
+        int edge = 0;
+        for (node = 0; node < nodeCount; node++) {
+            edgeOffset[node] = edge;
+            int cell = nodeCells[node];
+            int x = cell % width;
+            int y = cell / width;
+            for (int dir = 0; dir < 4; dir++) {
+                if (!grid.isOpen(x + DX[dir], y + DY[dir])) {
+                    continue;
+                }
+                long reached = walk(cell, dir, null, 0);
+                int target = (int) reached;
+                if (target == cell) {
+                    continue;  // the corridor loops back into this node
+                }
+                sources[edge] = cell;
+                targets[edge] = target;
+                lengths[edge] = (int) (reached >>> 32);
+                directions[edge] = (byte) dir;
+                edge++;
+            }
+        }
+        edgeOffset[nodeCount] = edge;
+        edgeSource = Arrays.copyOf(sources, edge);
+        edgeTarget = Arrays.copyOf(targets, edge);
+        edgeLength = Arrays.copyOf(lengths, edge);
+        edgeDirection = Arrays.copyOf(directions, edge);
+    }
+
+    /**
+     * Cells filled before the graph was built; 0 if dead ends were not filled.
+     */
+    public int getCellsPruned() {
+        return cellsPruned;
+    }
+
+    public int getNodeCount() {
+        return nodeCells.length;
+    }
+
+    public int getEdgeCount() {
+        return edgeTarget.length;
+    }
+
+    public boolean isNode(int cell) {
+        return isNode.get(cell);
+    }
+
+    /**
+     * Index of the first edge leaving the node at {@code cell}; see {@link #edgesEnd(int)}.
+     */
+    public int edgesStart(int cell) {
+        return edgeOffset[nodeId(cell)];
+    }
+
+    public int edgesEnd(int cell) {
+        return edgeOffset[nodeId(cell) + 1];
+    }
+
+    public int getSource(int edge) {
+        return edgeSource[edge];
+    }
+
+    public int getTarget(int edge) {
+        return edgeTarget[edge];
+    }
+
+    public int getLength(int edge) {
+        return edgeLength[edge];
+    }
+
+    /**
+     * Writes the cells of {@code edge} after its source, ending with its target, into
+     * {@code cells} from {@code offset}; that is {@link #getLength(int)} cells.
+     */
+    public void expand(int edge, int[] cells, int offset) {
+        walk(edgeSource[edge], edgeDirection[edge], cells, offset);
+    }
+
+    private int nodeId(int cell) {
+        return Arrays.binarySearch(nodeCells, cell);
+    }
+
+    private int openNeighbors(int cell) {
+        int x = cell % width;
+        int y = cell / width;
+        int open = 0;
+        for (int dir = 0; dir < 4; dir++) {
+            if (grid.isOpen(x + DX[dir], y + DY[dir])) {
+                open++;
+            }
+        }
+        return open;
+    }
+
+    /**
+     * Follows the corridor leaving {@code from} in direction {@code dir} up to the next
+     * node, recording the cells passed when {@code cells} is not null.
+     *
+     * @return the corridor's length in the high 32 bits, the node reached in the low 32
+     */
+    private long walk(int from, int dir, int[] cells, int offset) {
+        int previous = from;
+        int cell = from + DY[dir] * width + DX[dir];
+        int length = 1;
+        while (true) {
+            if (cells != null) {
+                cells[offset + length - 1] = cell;
+            }
+            if (isNode.get(cell)) {
+                return (long) length << 32 | cell;
+            }
+            // A corridor cell has exactly two open neighbors: go on through the other one
+            int x = cell % width;
+            int y = cell / width;
+            int next = -1;
+            for (int d = 0; d < 4 && next < 0; d++) {
+                int candidate = cell + DY[d] * width + DX[d];
+                if (candidate != previous && grid.isOpen(x + DX[d], y + DY[d])) {
+                    next = candidate;
+                }
+            }
+            previous = cell;
+            cell = next;
+            length++;
+        }
+    }
+}
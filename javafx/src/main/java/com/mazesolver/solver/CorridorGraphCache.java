@@ -0,0 +1,45 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.model.BitGrid;
+
+/**
+ * Keeps the last {@link CorridorGraph} built for a maze so that later runs reuse it
+ * while nothing it depends on has changed. The key is the source grid (by identity),
+ * its {@link BitGrid#getVersion() version}, start, end and whether dead ends were
+ * filled first. A filled graph is built from a private copy of the grid, so the key
+ * has to name the source grid, not the copy. Hand one cache to every engine that
+ * solves the same maze; each engine otherwise has its own.
+ */
+public class CorridorGraphCache {
+    private BitGrid grid;
+    private int version;
+    private int startCell;
+    private int endCell;
+    private boolean deadEndsFilled;
+    private CorridorGraph graph;
+
+    /**
+     * The graph for these inputs, built (after dead-end filling on a copy of the grid,
+     * if asked) only when the cached one does not match them. The graph carries its own
+     * {@link CorridorGraph#getCellsPruned() pruned count}, so it always matches the graph
+     * returned even when other engines share this cache.
+     */
+    public synchronized CorridorGraph get(BitGrid grid, int startCell, int endCell, boolean fillDeadEnds) {
+        if (graph == null || this.grid != grid || version != grid.getVersion()
+            || this.startCell != startCell || this.endCell != endCell || deadEndsFilled != fillDeadEnds) {
+            BitGrid source = grid;
+            int cellsPruned = 0;
+            if (fillDeadEnds) {
+                source = grid.copy();
+                cellsPruned = DeadEndFiller.fill(source, startCell, endCell);
+            }
+            graph = new CorridorGraph(source, startCell, endCell, cellsPruned);
+            this.grid = grid;
+            this.version = grid.getVersion();
+            this.startCell = startCell;
+            this.endCell = endCell;
+            this.deadEndsFilled = fillDeadEnds;
+        }
+        return graph;
+    }
+}
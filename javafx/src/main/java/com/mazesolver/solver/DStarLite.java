@@ -0,0 +1,249 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.model.BitGrid;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * D* Lite (Koenig &amp; Likhachev, optimized version) on the 4-connected grid with unit
+ * costs. The search runs backwards from the goal, so after walls change or the start
+ * moves only the cells whose distance to the goal is affected are expanded again,
+ * instead of repeating the whole search.
+ *
+ * <p>The caller edits the grid and then reports each changed cell with
+ * {@link #cellChanged(int, int)} before stepping again.</p>
+ */
+public class DStarLite {
+    // Large enough to mean "no path", small enough that INF + h + km still fits a key half
+    private static final int INF = Integer.MAX_VALUE / 4;
+
+    /** Returned by {@link #step()} when it only raised an outdated key and expanded nothing. */
+    public static final int KEY_UPDATED = -2;
+
+    private final BitGrid grid;
+    private final int width;
+    private final int height;
+    private final int goal;
+    private int start;
+    private int km = 0;  // accumulated heuristic offset from start moves
+
+    private final int[] g;
+    private final int[] rhs;  // one-step lookahead: min over successors of cost + g
+    private final IndexedMinHeap open;
+
+    private IntConsumer onEnqueued;
+
+    public DStarLite(BitGrid grid, int start, int goal) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.start = start;
+        this.goal = goal;
+
+        int cells = width * height;
+        this.g = new int[cells];
+        this.rhs = new int[cells];
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+        this.open = new IndexedMinHeap(cells);
+
+        rhs[goal] = 0;
+        open.insert(goal, key(goal));
+    }
+
+    /**
+     * Called with each cell that is added to the open set, for visualization.
+     */
+    public void setOnEnqueued(IntConsumer callback) {
+        this.onEnqueued = callback;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public IndexedMinHeap getOpenSet() {
+        return open;
+    }
+
+    /**
+     * Expands one cell of the open set.
+     *
+     * @return the expanded cell, {@link #KEY_UPDATED} if the top cell only had its key raised
+     *         after a start move, or -1 once the start is consistent and the search is done
+     */
+    public int step() {
+        if (isDone()) {
+            return -1;
+        }
+
+        int u = open.peek();
+        long oldKey = open.peekKey();
+        long newKey = key(u);
+        if (oldKey < newKey) {
+            open.update(u, newKey);
+            return KEY_UPDATED;
+        } else if (g[u] > rhs[u]) {
+            // Overconsistent: its distance dropped, settle it and tell the predecessors
+            g[u] = rhs[u];
+            open.remove(u);
+            forEachNeighbor(u, s -> {
+                if (s != goal) {
+                    rhs[s] = Math.min(rhs[s], cost(s, u) + g[u]);
+                }
+                updateVertex(s);
+            });
+        } else {
+            // Underconsistent: its distance grew, predecessors that relied on it recompute
+            int oldG = g[u];
+            g[u] = INF;
+            forEachNeighbor(u, s -> {
+                if (s != goal && rhs[s] == cost(s, u) + oldG) {
+                    rhs[s] = lookahead(s);
+                }
+                updateVertex(s);
+            });
+            if (u != goal) {
+                rhs[u] = lookahead(u);
+            }
+            updateVertex(u);
+        }
+        return u;
+    }
+
+    public boolean isDone() {
+        return open.isEmpty() || (open.peekKey() >= key(start) && rhs[start] <= g[start]);
+    }
+
+    public boolean hasPath() {
+        return rhs[start] < INF;
+    }
+
+    /**
+     * Reports that the cell at (x, y) became a wall or open. Every edge touching it
+     * changed cost, so the cell and its neighbors recompute their lookahead.
+     */
+    public void cellChanged(int x, int y) {
+        int cell = y * width + x;
+        if (cell != goal) {
+            rhs[cell] = lookahead(cell);
+        }
+        updateVertex(cell);
+        forEachNeighbor(cell, s -> {
+            if (s != goal) {
+                rhs[s] = lookahead(s);
+            }
+            updateVertex(s);
+        });
+    }
+
+    /**
+     * Moves the start, e.g. as an agent walks along the path. Keys already in the open
+     * set stay valid lower bounds through the {@code km} offset.
+     */
+    public void moveStart(int newStart) {
+        km += heuristic(start, newStart);
+        start = newStart;
+    }
+
+    /**
+     * Follows the cheapest successor from the start to the goal.
+     *
+     * @return the path's cells from start to goal, or an empty array if there is none
+     */
+    public int[] extractPath() {
+        if (!hasPath()) {
+            return new int[0];
+        }
+        int[] cells = new int[Math.max(16, rhs[start] + 1)];
+        int length = 0;
+        int cell = start;
+        cells[length++] = cell;
+        while (cell != goal) {
+            int next = -1;
+            int nextCost = INF;
+            int x = cell % width;
+            int y = cell / width;
+            if (x + 1 < width && cost(cell, cell + 1) + g[cell + 1] < nextCost) {
+                next = cell + 1;
+                nextCost = cost(cell, next) + g[next];
+            }
+            if (y + 1 < height && cost(cell, cell + width) + g[cell + width] < nextCost) {
+                next = cell + width;
+                nextCost = cost(cell, next) + g[next];
+            }
+            if (x > 0 && cost(cell, cell - 1) + g[cell - 1] < nextCost) {
+                next = cell - 1;
+                nextCost = cost(cell, next) + g[next];
+            }
+            if (y > 0 && cost(cell, cell - width) + g[cell - width] < nextCost) {
+                next = cell - width;
+            }
+            if (next == -1 || length == width * height) {
+                return new int[0];  // no consistent way on, or a cycle
+            }
+            if (length == cells.length) {
+                cells = Arrays.copyOf(cells, cells.length * 2);
+            }
+            cell = next;
+            cells[length++] = cell;
+        }
+        return Arrays.copyOf(cells, length);
+    }
+
+    private void updateVertex(int u) {
+        boolean inOpen = open.contains(u);
+        if (g[u] != rhs[u]) {
+            if (inOpen) {
+                open.update(u, key(u));
+            } else {
+                open.insert(u, key(u));
+                if (onEnqueued != null) {
+                    onEnqueued.accept(u);
+                }
+            }
+        } else if (inOpen) {
+            open.remove(u);
+        }
+    }
+
+    private int lookahead(int s) {
+        int best = INF;
+        int x = s % width;
+        int y = s / width;
+        if (x + 1 < width) best = Math.min(best, cost(s, s + 1) + g[s + 1]);
+        if (y + 1 < height) best = Math.min(best, cost(s, s + width) + g[s + width]);
+        if (x > 0) best = Math.min(best, cost(s, s - 1) + g[s - 1]);
+        if (y > 0) best = Math.min(best, cost(s, s - width) + g[s - width]);
+        return Math.min(best, INF);
+    }
+
+    private void forEachNeighbor(int cell, IntConsumer action) {
+        int x = cell % width;
+        int y = cell / width;
+        if (x + 1 < width) action.accept(cell + 1);
+        if (y + 1 < height) action.accept(cell + width);
+        if (x > 0) action.accept(cell - 1);
+        if (y > 0) action.accept(cell - width);
+    }
+
+    // Moving into or out of a wall is impossible
+    private int cost(int from, int to) {
+        return isBlocked(from) || isBlocked(to) ? INF : 1;
+    }
+
+    private boolean isBlocked(int cell) {
+        return grid.isWallCell(cell);
+    }
+
+    private int heuristic(int a, int b) {
+        return Math.abs(a % width - b % width) + Math.abs(a / width - b / width);
+    }
+
+    // [min(g, rhs) + h + km ; min(g, rhs)] packed high/low so it compares lexicographically
+    private long key(int s) {
+        int m = Math.min(g[s], rhs[s]);
+        return ((long) (m + heuristic(start, s) + km) << 32) | m;
+    }
+}
@@ -0,0 +1,72 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.model.BitGrid;
+
+/**
+ * Dead-end filling: an open cell with at most one open neighbor cannot be on a path
+ * between two other cells, so it is walled off, which may turn its neighbor into a new
+ * dead end. Repeating this until no dead ends are left removes every branch that leads
+ * nowhere and keeps all loops and every route from start to end, so shortest paths are
+ * unchanged. Each cell is filled at most once, making the whole pass linear in the
+ * number of cells.
+ */
+public final class DeadEndFiller {
+    private DeadEndFiller() {
+    }
+
+    /**
+     * Walls off the dead ends of {@code grid} in place, never filling the two kept cells.
+     *
+     * @return the number of cells filled
+     */
+    public static int fill(BitGrid grid, int keepA, int keepB) {
+        int width = grid.getWidth();
+        int cells = width * grid.getHeight();
+        IntRingBuffer deadEnds = new IntRingBuffer();
+        for (int cell = 0; cell < cells; cell++) {
+            if (isDeadEnd(grid, cell, width, keepA, keepB)) {
+                deadEnds.add(cell);
+            }
+        }
+
+        int filled = 0;
+        while (!deadEnds.isEmpty()) {
+            int cell = deadEnds.poll();
+            if (grid.isWallCell(cell)) {
+                continue;  // queued twice: by the first scan and by a filled neighbor
+            }
+            int x = cell % width;
+            int y = cell / width;
+            grid.setWall(x, y, true);
+            filled++;
+            // Only the one open neighbor (if any) can have become a dead end
+            int next = openNeighbor(grid, x, y, width);
+            if (next >= 0 && isDeadEnd(grid, next, width, keepA, keepB)) {
+                deadEnds.add(next);
+            }
+        }
+        return filled;
+    }
+
+    private static boolean isDeadEnd(BitGrid grid, int cell, int width, int keepA, int keepB) {
+        if (cell == keepA || cell == keepB || grid.isWallCell(cell)) {
+            return false;
+        }
+        int x = cell % width;
+        int y = cell / width;
+        int open = 0;
+        if (grid.isOpen(x + 1, y)) open++;
+        if (grid.isOpen(x, y + 1)) open++;
+        if (grid.isOpen(x - 1, y)) open++;
+        if (grid.isOpen(x, y - 1)) open++;
+        return open <= 1;
+    }
+
+    private static int openNeighbor(BitGrid grid, int x, int y, int width) {
+        if (grid.isOpen(x + 1, y)) return y * width + x + 1;
+        if (grid.isOpen(x, y + 1)) return (y + 1) * width + x;
+        if (grid.isOpen(x - 1, y)) return y * width + x - 1;
+        if (grid.isOpen(x, y - 1)) return (y - 1) * width + x;
+        return -1;
+    }
+}
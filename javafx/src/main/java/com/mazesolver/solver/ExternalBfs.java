@@ -0,0 +1,294 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.model.Position;
+import com.mazesolver.util.MappedMaze;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * Breadth-first search for mazes too large for the heap. The grid is read from a
+ * {@link MappedMaze}. There is no visited set: on an undirected grid every neighbor of
+ * layer d lies in layer d - 1, d or d + 1, so the next layer is the current layer's
+ * neighbors minus the previous and current layers (frontier search). Only those three
+ * layers are held in memory, as sorted arrays of cell ids ({@code y * width + x} as a long).
+ *
+ * <p>Each newly reached cell is spilled to a temporary file together with the direction
+ * it was reached from. Parents always come earlier in the file than their children, so
+ * {@link #writePath(Path)} recovers the path with one backward pass over it. Heap use
+ * grows with the widest BFS layer, not with the number of cells; the spill file takes
+ * 8 bytes per reached cell.</p>
+ */
+public class ExternalBfs implements AutoCloseable {
+    private static final int BUFFER_BYTES = 1 << 20;
+    // Direction from the parent to the cell: +x, +y, -x, -y
+    private static final int[] DX = {1, 0, -1, 0};
+    private static final int[] DY = {0, 1, 0, -1};
+
+    private final MappedMaze maze;
+    private final int width;
+    private final Path spillFile;
+
+    private long source = -1;
+    private long target = -1;
+    private long distance = -1;
+    private long cellsVisited = 0;
+    private long largestLayer = 0;
+
+    /**
+     * @param workDirectory where the parent spill file is created; it is deleted on {@link #close()}
+     */
+    public ExternalBfs(MappedMaze maze, Path workDirectory) throws IOException {
+        this.maze = maze;
+        this.width = maze.getWidth();
+        this.spillFile = Files.createTempFile(workDirectory, "bfs-parents", ".bin");
+    }
+
+    /**
+     * Searches from {@code from} to {@code to}.
+     *
+     * @return the length of the shortest path in moves, or -1 if there is none
+     */
+    public long solve(Position from, Position to) throws IOException {
+        source = cell(from.getX(), from.getY());
+        target = cell(to.getX(), to.getY());
+        distance = -1;
+        cellsVisited = 1;
+        largestLayer = 1;
+        if (!maze.isOpen(from.getX(), from.getY()) || !maze.isOpen(to.getX(), to.getY())) {
+            return -1;
+        }
+        if (source == target) {
+            distance = 0;
+            return distance;
+        }
+
+        LongList previous = new LongList();
+        LongList current = new LongList();
+        LongList next = new LongList();
+        LongList candidates = new LongList();  // cell << 2 | direction
+        current.add(source);
+
+        try (SpillWriter spill = new SpillWriter(spillFile)) {
+            long depth = 0;
+            while (current.size > 0) {
+                candidates.clear();
+                for (int i = 0; i < current.size; i++) {
+                    long cell = current.values[i];
+                    int x = (int) (cell % width);
+                    int y = (int) (cell / width);
+                    for (int dir = 0; dir < 4; dir++) {
+                        if (maze.isOpen(x + DX[dir], y + DY[dir])) {
+                            candidates.add(cell(x + DX[dir], y + DY[dir]) << 2 | dir);
+                        }
+                    }
+                }
+                Arrays.sort(candidates.values, 0, candidates.size);
+
+                // Merge against the sorted previous and current layers, keeping each cell once
+                next.clear();
+                boolean found = false;
+                int p = 0;
+                int c = 0;
+                long last = -1;
+                for (int i = 0; i < candidates.size; i++) {
+                    long record = candidates.values[i];
+                    long cell = record >>> 2;
+                    if (cell == last) continue;
+                    last = cell;
+                    while (p < previous.size && previous.values[p] < cell) p++;
+                    while (c < current.size && current.values[c] < cell) c++;
+                    if ((p < previous.size && previous.values[p] == cell)
+                        || (c < current.size && current.values[c] == cell)) {
+                        continue;
+                    }
+                    next.add(cell);
+                    spill.write(record);
+                    found |= cell == target;
+                }
+
+                depth++;
+                cellsVisited += next.size;
+                largestLayer = Math.max(largestLayer, next.size);
+                if (found) {
+                    distance = depth;
+                    break;
+                }
+                LongList oldest = previous;
+                previous = current;
+                current = next;
+                next = oldest;
+            }
+        }
+        return distance;
+    }
+
+    public boolean hasPath() {
+        return distance >= 0;
+    }
+
+    public long getDistance() {
+        return distance;
+    }
+
+    /**
+     * Cells reached by the last search, including the start.
+     */
+    public long getCellsVisited() {
+        return cellsVisited;
+    }
+
+    /**
+     * Size of the largest BFS layer, which bounds the heap the search needed.
+     */
+    public long getLargestLayer() {
+        return largestLayer;
+    }
+
+    /**
+     * Writes the path of the last search as text, one {@code x y} line per cell from
+     * start to end. Nothing is written if there is no path.
+     */
+    public void writePath(Path output) throws IOException {
+        if (!hasPath()) {
+            return;
+        }
+        // The backward pass finds the cells from end to start; reverse them through a second file
+        Path reversed = Files.createTempFile(spillFile.getParent(), "bfs-path", ".bin");
+        try {
+            try (SpillWriter path = new SpillWriter(reversed)) {
+                path.write(target);
+                long[] wanted = {target};
+                if (target != source) readBackward(spillFile, record -> {
+                    if (record >>> 2 != wanted[0]) {
+                        return true;
+                    }
+                    int dir = (int) (record & 3);
+                    wanted[0] = cell(cellX(wanted[0]) - DX[dir], cellY(wanted[0]) - DY[dir]);
+                    try {
+                        path.write(wanted[0]);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return wanted[0] != source;
+                });
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                readBackward(reversed, cell -> {
+                    try {
+                        writer.write(cellX(cell) + " " + cellY(cell));
+                        writer.newLine();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return true;
+                });
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            Files.deleteIfExists(reversed);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(spillFile);
+    }
+
+    private long cell(int x, int y) {
+        return (long) y * width + x;
+    }
+
+    private int cellX(long cell) {
+        return (int) (cell % width);
+    }
+
+    private int cellY(long cell) {
+        return (int) (cell / width);
+    }
+
+    // Feeds the file's longs to the action from last to first until it returns false
+    private static void readBackward(Path file, LongPredicate action) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long end = channel.size();
+            while (end > 0) {
+                long start = Math.max(0, end - BUFFER_BYTES);
+                buffer.clear().limit((int) (end - start));
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, start + buffer.position()) < 0) {
+                        throw new IOException("Unexpected end of " + file);
+                    }
+                }
+                for (int i = buffer.limit() - Long.BYTES; i >= 0; i -= Long.BYTES) {
+                    if (!action.test(buffer.getLong(i))) {
+                        return;
+                    }
+                }
+                end = start;
+            }
+        }
+    }
+
+    // Appends longs to a file through a fixed-size buffer
+    private static final class SpillWriter implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        SpillWriter(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        void write(long value) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.putLong(value);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    // Growable array of primitive longs
+    private static final class LongList {
+        long[] values = new long[16];
+        int size = 0;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.mazesolver.solver;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap over int items in {@code [0, capacity)} with primitive long keys.
+ * Each item is in the heap at most once and tracks its own slot, so its key can be
+ * lowered in place ({@link #decreaseKey}) instead of pushing a duplicate entry.
+ * No objects are allocated per item.
+ */
+public class IndexedMinHeap {
+    private final int[] slotOf;   // item -> slot in the heap, -1 when absent
+    private int[] items;          // slot -> item
+    private long[] keys;          // slot -> key of the item in that slot
+    private int size = 0;
+
+    public IndexedMinHeap(int capacity) {
+        this.slotOf = new int[capacity];
+        Arrays.fill(slotOf, -1);
+        this.items = new int[16];
+        this.keys = new long[16];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int item) {
+        return slotOf[item] != -1;
+    }
+
+    public long getKey(int item) {
+        return keys[slotOf[item]];
+    }
+
+    /**
+     * Returns the item stored in heap slot {@code slot} (0 is the minimum), for snapshots.
+     */
+    public int itemAt(int slot) {
+        return items[slot];
+    }
+
+    public void insert(int item, long key) {
+        if (slotOf[item] != -1) {
+            throw new IllegalArgumentException("Item already in heap: " + item);
+        }
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        items[size] = item;
+        keys[size] = key;
+        slotOf[item] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Lowers the key of an item already in the heap.
+     */
+    public void decreaseKey(int item, long key) {
+        int slot = slotOf[item];
+        if (slot == -1) {
+            throw new IllegalArgumentException("Item not in heap: " + item);
+        }
+        if (key > keys[slot]) {
+            throw new IllegalArgumentException("New key is larger than the current key");
+        }
+        keys[slot] = key;
+        siftUp(slot);
+    }
+
+    /**
+     * Inserts the item, or lowers its key if it is present with a larger one.
+     */
+    public void insertOrDecrease(int item, long key) {
+        int slot = slotOf[item];
+        if (slot == -1) {
+            insert(item, key);
+        } else if (key < keys[slot]) {
+            keys[slot] = key;
+            siftUp(slot);
+        }
+    }
+
+    /**
+     * Changes the key of an item already in the heap, in either direction.
+     */
+    public void update(int item, long key) {
+        int slot = slotOf[item];
+        if (slot == -1) {
+            throw new IllegalArgumentException("Item not in heap: " + item);
+        }
+        long old = keys[slot];
+        keys[slot] = key;
+        if (key < old) {
+            siftUp(slot);
+        } else if (key > old) {
+            siftDown(slot);
+        }
+    }
+
+    /**
+     * Removes an item from anywhere in the heap; does nothing if it is absent.
+     */
+    public void remove(int item) {
+        int slot = slotOf[item];
+        if (slot == -1) {
+            return;
+        }
+        slotOf[item] = -1;
+        size--;
+        if (slot == size) {
+            return;
+        }
+        move(size, slot);
+        siftDown(slot);
+        siftUp(slot);
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return items[0];
+    }
+
+    public long peekKey() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return keys[0];
+    }
+
+    /**
+     * Removes and returns the item with the smallest key.
+     */
+    public int poll() {
+        int top = peek();
+        slotOf[top] = -1;
+        size--;
+        if (size > 0) {
+            move(size, 0);
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Empties the heap in O(size).
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            slotOf[items[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int slot) {
+        int item = items[slot];
+        long key = keys[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (keys[parent] <= key) break;
+            move(parent, slot);
+            slot = parent;
+        }
+        place(item, key, slot);
+    }
+
+    private void siftDown(int slot) {
+        int item = items[slot];
+        long key = keys[slot];
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (key <= keys[child]) break;
+            move(child, slot);
+            slot = child;
+        }
+        place(item, key, slot);
+    }
+
+    private void move(int from, int to) {
+        items[to] = items[from];
+        keys[to] = keys[from];
+        slotOf[items[to]] = to;
+    }
+
+    private void place(int item, long key, int slot) {
+        items[slot] = item;
+        keys[slot] = key;
+        slotOf[item] = slot;
+    }
+}
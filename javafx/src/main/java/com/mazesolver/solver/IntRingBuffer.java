@@ -0,0 +1,100 @@
+package com.mazesolver.solver;
+
+import java.util.Arrays;
+
+/**
+ * Growable FIFO queue of primitive ints backed by a circular array.
+ * Enqueue and dequeue are O(1) and never box or shift elements.
+ */
+public class IntRingBuffer {
+    private int[] elements;
+    private int head = 0;  // index of the front element
+    private int size = 0;
+
+    public IntRingBuffer() {
+        this(16);
+    }
+
+    public IntRingBuffer(int initialCapacity) {
+        // Power-of-two capacity lets indices wrap with a mask
+        int capacity = Integer.highestOneBit(Math.max(2, initialCapacity - 1)) << 1;
+        this.elements = new int[capacity];
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the front element.
+     *
+     * @throws IllegalStateException if the queue is empty
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * Returns the front element without removing it.
+     *
+     * @throws IllegalStateException if the queue is empty
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        return elements[head];
+    }
+
+    /**
+     * Returns the element at {@code index} positions behind the front.
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return elements[(head + index) & (elements.length - 1)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        int[] grown = new int[elements.length * 2];
+        // Unwrap so the front lands at index 0
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        elements = grown;
+        head = 0;
+    }
+
+    @Override
+    public String toString() {
+        int[] contents = new int[size];
+        for (int i = 0; i < size; i++) {
+            contents[i] = get(i);
+        }
+        return Arrays.toString(contents);
+    }
+}
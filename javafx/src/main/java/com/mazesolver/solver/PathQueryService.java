@@ -0,0 +1,283 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.model.AlgorithmState;
+import com.mazesolver.model.BitGrid;
+import com.mazesolver.model.MazePath;
+import com.mazesolver.model.MazeStats;
+import com.mazesolver.model.Position;
+import com.mazesolver.model.SolveResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers many start/end queries on one static grid. The grid is preprocessed once
+ * into BFS distances from a few landmarks (ALT): by the triangle inequality
+ * {@code |d(L, target) - d(L, n)|} is a lower bound on the distance from n to the
+ * target, which makes a much tighter A* heuristic than Manhattan distance. Pairs in
+ * different components are rejected by a {@link ConnectivityIndex} without a search.
+ * Recent results are kept in an LRU cache. Queries are serialized; the service is
+ * thread-safe.
+ */
+public class PathQueryService {
+    private static final int UNREACHABLE = -1;
+
+    private final BitGrid grid;
+    private final int width;
+    private final int height;
+    private final int[][] landmarkDistances;  // [landmark][cell], UNREACHABLE if not connected
+    private final ConnectivityIndex components;
+    private final Map<Long, SolveResult> cache;
+
+    // Search workspace reused across queries; a cell's g and parent are valid only
+    // when its stamp equals the current query's
+    private final IndexedMinHeap openSet;
+    private final int[] gScore;
+    private final int[] parent;
+    private final int[] stamp;
+    private int currentStamp = 0;
+
+    public PathQueryService(int[][] grid) {
+        this(BitGrid.fromArray(grid), 8, 1024);
+    }
+
+    public PathQueryService(int[][] grid, int landmarkCount, int cacheSize) {
+        this(BitGrid.fromArray(grid), landmarkCount, cacheSize);
+    }
+
+    /**
+     * @param landmarkCount number of landmarks; each costs one int per cell
+     * @param cacheSize     number of recent query results to keep
+     */
+    public PathQueryService(BitGrid grid, int landmarkCount, int cacheSize) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        int cells = width * height;
+
+        this.landmarkDistances = selectLandmarks(landmarkCount);
+        this.components = new ConnectivityIndex(grid);
+
+        this.cache = new LinkedHashMap<Long, SolveResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, SolveResult> eldest) {
+                return size() > cacheSize;
+            }
+        };
+
+        this.openSet = new IndexedMinHeap(cells);
+        this.gScore = new int[cells];
+        this.parent = new int[cells];
+        this.stamp = new int[cells];
+    }
+
+    public int getLandmarkCount() {
+        return landmarkDistances.length;
+    }
+
+    /**
+     * Shortest path between two open cells. The result's stats report the cells
+     * expanded by the query that computed it; cached results are returned as is.
+     */
+    public synchronized SolveResult findPath(Position from, Position to) {
+        if (!inBounds(from) || !inBounds(to)) {
+            return new SolveResult(AlgorithmState.NO_PATH, MazePath.EMPTY, new MazeStats());
+        }
+        int source = from.getY() * width + from.getX();
+        int target = to.getY() * width + to.getX();
+        long key = ((long) source << 32) | target;
+
+        SolveResult cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        SolveResult result = search(source, target);
+        cache.put(key, result);
+        return result;
+    }
+
+    private SolveResult search(int source, int target) {
+        long startTime = System.currentTimeMillis();
+        MazeStats stats = new MazeStats();
+
+        if (!components.isConnected(source, target)) {
+            stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+            return new SolveResult(AlgorithmState.NO_PATH, MazePath.EMPTY, stats);
+        }
+
+        if (++currentStamp == 0) {
+            // Stamp wrapped around: old stamps could look current again
+            Arrays.fill(stamp, 0);
+            currentStamp = 1;
+        }
+        openSet.clear();
+        touch(source);
+        gScore[source] = 0;
+        openSet.insert(source, key(0, heuristic(source, target)));
+
+        int expanded = 0;
+        MazePath path = MazePath.EMPTY;
+        while (!openSet.isEmpty()) {
+            int cell = openSet.poll();
+            expanded++;
+            if (cell == target) {
+                path = MazePath.fromParents(parent, target, width);
+                break;
+            }
+
+            int x = cell % width;
+            int y = cell / width;
+            relax(cell, x + 1, y, target);
+            relax(cell, x, y + 1, target);
+            relax(cell, x - 1, y, target);
+            relax(cell, x, y - 1, target);
+        }
+
+        stats.setCellsVisited(expanded);
+        stats.setStepsTaken(expanded);
+        stats.setPathLength(path.length());
+        stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+        AlgorithmState state = path.isEmpty() ? AlgorithmState.NO_PATH : AlgorithmState.FINISHED;
+        return new SolveResult(state, path, stats);
+    }
+
+    private void relax(int cell, int x, int y, int target) {
+        if (!grid.isOpen(x, y)) {
+            return;
+        }
+        // The heuristic is consistent, so an expanded cell's g is final and never improves here
+        int neighbor = y * width + x;
+        touch(neighbor);
+        int tentative = gScore[cell] + 1;
+        if (tentative < gScore[neighbor]) {
+            gScore[neighbor] = tentative;
+            parent[neighbor] = cell;
+            openSet.insertOrDecrease(neighbor, key(tentative, heuristic(neighbor, target)));
+        }
+    }
+
+    // First visit of a cell in this query: reset its g and parent
+    private void touch(int cell) {
+        if (stamp[cell] != currentStamp) {
+            stamp[cell] = currentStamp;
+            gScore[cell] = Integer.MAX_VALUE;
+            parent[cell] = -1;
+        }
+    }
+
+    private static long key(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+
+    // Largest of the Manhattan and landmark lower bounds
+    private int heuristic(int cell, int target) {
+        int best = Math.abs(cell % width - target % width) + Math.abs(cell / width - target / width);
+        for (int[] distances : landmarkDistances) {
+            int toCell = distances[cell];
+            int toTarget = distances[target];
+            if (toCell != UNREACHABLE && toTarget != UNREACHABLE) {
+                best = Math.max(best, Math.abs(toTarget - toCell));
+            }
+        }
+        return best;
+    }
+
+    private boolean inBounds(Position pos) {
+        return pos.getX() >= 0 && pos.getX() < width && pos.getY() >= 0 && pos.getY() < height;
+    }
+
+    private boolean isOpen(int cell) {
+        return !grid.isWallCell(cell);
+    }
+
+    /**
+     * Farthest-point selection: each new landmark is the open cell farthest from all
+     * landmarks chosen so far, which spreads them to the edges of the maze. Cells not
+     * reached by any landmark yet are preferred, so every component gets one.
+     *
+     * @return the BFS distances from each chosen landmark
+     */
+    private int[][] selectLandmarks(int count) {
+        int cells = width * height;
+        int[] nearest = new int[cells];  // distance to the closest landmark so far
+        Arrays.fill(nearest, Integer.MAX_VALUE);
+
+        int seed = -1;
+        for (int cell = 0; cell < cells && seed == -1; cell++) {
+            if (isOpen(cell)) {
+                seed = cell;
+            }
+        }
+        if (seed == -1) {
+            return new int[0][];
+        }
+
+        List<int[]> chosen = new ArrayList<>();
+        int candidate = farthest(bfsDistances(seed), seed);
+        while (chosen.size() < count) {
+            int[] distances = bfsDistances(candidate);
+            chosen.add(distances);
+            int next = -1;
+            int nextDistance = -1;
+            for (int cell = 0; cell < cells; cell++) {
+                if (!isOpen(cell)) continue;
+                if (distances[cell] != UNREACHABLE) {
+                    nearest[cell] = Math.min(nearest[cell], distances[cell]);
+                }
+                if (nearest[cell] > nextDistance) {
+                    nextDistance = nearest[cell];
+                    next = cell;
+                }
+            }
+            if (nextDistance <= 0) {
+                break; // every open cell already is a landmark
+            }
+            candidate = next;
+        }
+        return chosen.toArray(new int[0][]);
+    }
+
+    private int farthest(int[] distances, int fallback) {
+        int best = fallback;
+        for (int cell = 0; cell < distances.length; cell++) {
+            if (distances[cell] > distances[best]) {
+                best = cell;
+            }
+        }
+        return best;
+    }
+
+    private int[] bfsDistances(int source) {
+        int[] distances = new int[width * height];
+        Arrays.fill(distances, UNREACHABLE);
+        IntRingBuffer queue = new IntRingBuffer();
+        distances[source] = 0;
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            int x = cell % width;
+            int y = cell / width;
+            int next = distances[cell] + 1;
+            if (grid.isOpen(x + 1, y) && distances[cell + 1] == UNREACHABLE) {
+                distances[cell + 1] = next;
+                queue.add(cell + 1);
+            }
+            if (grid.isOpen(x, y + 1) && distances[cell + width] == UNREACHABLE) {
+                distances[cell + width] = next;
+                queue.add(cell + width);
+            }
+            if (grid.isOpen(x - 1, y) && distances[cell - 1] == UNREACHABLE) {
+                distances[cell - 1] = next;
+                queue.add(cell - 1);
+            }
+            if (grid.isOpen(x, y - 1) && distances[cell - width] == UNREACHABLE) {
+                distances[cell - width] = next;
+                queue.add(cell - width);
+            }
+        }
+        return distances;
+    }
+}
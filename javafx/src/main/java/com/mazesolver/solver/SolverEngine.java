@@ -0,0 +1,1276 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.model.*;
+import java.util.*;
+
+/**
+ * Pure-Java search engine behind {@link MazeSolver}. It has no JavaFX dependency:
+ * callbacks are invoked synchronously on the calling thread, and when no
+ * {@code cellStates} buffer is supplied no visualization state is tracked at all,
+ * so a complete solve can run in a batch job or unit test via {@link #solve()}.
+ */
+public class SolverEngine {
+    private final BitGrid grid;
+    private BitGrid searchGrid;  // grid, or a copy of it with the dead ends filled
+    private boolean deadEndFilling = false;
+    private final int width;
+    private final int height;
+    private final CellStateBuffer cellStates;
+    private final Position start;
+    private final Position end;
+    private final DataStructureType dataStructureType;
+
+    private final List<Position> stack = new ArrayList<>();
+    private final IntRingBuffer queue = new IntRingBuffer();  // BFS frontier of cell indices
+    private final List<Position> linkedList = new ArrayList<>();
+    // Search bookkeeping is indexed by cell (y * width + x) instead of "x,y" string keys
+    private final BitSet visited;
+    private int visitedCount = 0;
+    private final MazeStats stats = new MazeStats();
+
+    // For BFS and A*: parent cell of each cell to reconstruct path (-1 = none)
+    private int[] parent;
+
+    // For Linked List: track current position index (sequential traversal)
+    private int linkedListCurrentIndex = 0;
+
+    // For A* Algorithm (AI): open set keyed by f(n) = g(n) + h(n), each cell at most once
+    private IndexedMinHeap openSet;
+    private int[] gScore;  // g(n) = cost from start, Integer.MAX_VALUE = not reached yet
+    private final BitSet closedSet;  // Already evaluated nodes
+    private int closedCount = 0;
+
+    // For bidirectional searches: one side grows from start, the other from end
+    private SearchSide forward;
+    private SearchSide backward;
+    private SearchSide activeSide;
+    private int meetCell = -1;  // cell where the best path found so far joins both sides
+    private int bestLength = Integer.MAX_VALUE;  // its length in moves
+
+    // For D* Lite: kept after the search finishes so later wall edits can be replanned
+    private DStarLite dStarLite;
+
+    // Corridor graph of this run, taken from the cache. The A* arrays are reused with
+    // node cells as items; parent holds the edge a node was reached through
+    private CorridorGraph corridorGraph;
+    private CorridorGraphCache corridorGraphs = new CorridorGraphCache();
+
+    // Optional component labels of the grid; when they show the end cannot be reached
+    // the search stops at its first step without exploring anything
+    private ConnectivityIndex connectivity;
+    private boolean unreachable = false;
+
+    private volatile AlgorithmState algorithmState = AlgorithmState.IDLE;
+    private long startTime;
+    private MazePath path = MazePath.EMPTY;
+
+    private Runnable onStateChanged;
+    private Runnable onStatsChanged;
+    private Runnable onCellStatesChanged;
+
+    private static final int[][] DIRECTIONS = {{1, 0}, {0, 1}, {-1, 0}, {0, -1}}; // right, down, left, up
+
+    // Reusable buffer for neighbor cell indices, avoids allocating per probe
+    private final int[] neighborBuffer = new int[DIRECTIONS.length];
+
+    // Heuristic function for A*: Manhattan distance to the end
+    private int heuristic(int x, int y) {
+        return Math.abs(x - end.getX()) + Math.abs(y - end.getY());
+    }
+
+    // Search state of one direction of a bidirectional search
+    private static final class SearchSide {
+        private final int target;  // cell this side searches towards
+        // Only the structure of the side's mode is allocated; the other stays null
+        private final IntRingBuffer queue;       // bidirectional BFS
+        private final IndexedMinHeap openSet;    // bidirectional A*
+        private final int[] dist;    // moves from this side's root, Integer.MAX_VALUE = not reached
+        private final int[] parent;  // -1 = none
+        private final BitSet closed;
+        private int closedCount = 0;
+        private int layerRemaining = 0;  // BFS: cells of the current layer still to expand
+
+        private SearchSide(int cells, int target, boolean bestFirst) {
+            this.target = target;
+            this.queue = bestFirst ? null : new IntRingBuffer();
+            this.openSet = bestFirst ? new IndexedMinHeap(cells) : null;
+            this.dist = new int[cells];
+            this.parent = new int[cells];
+            this.closed = new BitSet(cells);
+            clear();
+        }
+
+        private void clear() {
+            if (queue != null) {
+                queue.clear();
+            } else {
+                openSet.clear();
+            }
+            Arrays.fill(dist, Integer.MAX_VALUE);
+            Arrays.fill(parent, -1);
+            closed.clear();
+            closedCount = 0;
+            layerRemaining = 0;
+        }
+
+        private boolean isExhausted() {
+            return frontierSize() == 0;
+        }
+
+        private int frontierSize() {
+            return queue != null ? queue.size() : openSet.size();
+        }
+    }
+
+    // Open set key: f(n) in the high word, ties broken by the smaller h(n) (closer to the end)
+    private static long aStarKey(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+
+    /**
+     * Headless engine: no cell states are tracked, only the path and statistics.
+     */
+    public SolverEngine(int[][] grid, Position start, Position end, DataStructureType dataStructureType) {
+        this(BitGrid.fromArray(grid), null, start, end, dataStructureType);
+    }
+
+    public SolverEngine(BitGrid grid, Position start, Position end, DataStructureType dataStructureType) {
+        this(grid, null, start, end, dataStructureType);
+    }
+
+    /**
+     * The grid is shared, not copied: D* Lite replans after the caller edits it.
+     */
+    public SolverEngine(BitGrid grid, CellStateBuffer cellStates, Position start, Position end,
+                        DataStructureType dataStructureType) {
+        this.grid = grid;
+        this.searchGrid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.visited = new BitSet(width * height);
+        this.closedSet = new BitSet(width * height);
+        this.cellStates = cellStates;
+        this.start = start;
+        this.end = end;
+        this.dataStructureType = dataStructureType;
+    }
+
+    public void setOnStateChanged(Runnable callback) {
+        this.onStateChanged = callback;
+    }
+
+    public void setOnStatsChanged(Runnable callback) {
+        this.onStatsChanged = callback;
+    }
+
+    public void setOnCellStatesChanged(Runnable callback) {
+        this.onCellStatesChanged = callback;
+    }
+
+    /**
+     * Lets the search give up at once when the start and end lie in different components.
+     * The index must describe the same grid this engine searches.
+     */
+    public void setConnectivityIndex(ConnectivityIndex connectivity) {
+        this.connectivity = connectivity;
+    }
+
+    /**
+     * Fills the grid's dead ends (on a private copy) before each search, so no strategy
+     * wanders into them. Not used by D* Lite, which has to follow edits to the shared grid.
+     */
+    public void setDeadEndFilling(boolean deadEndFilling) {
+        this.deadEndFilling = deadEndFilling;
+    }
+
+    /**
+     * Shares corridor graphs with other engines solving the same maze, so a new engine
+     * does not rebuild the graph while the grid is unchanged.
+     */
+    public void setCorridorGraphCache(CorridorGraphCache corridorGraphs) {
+        this.corridorGraphs = corridorGraphs;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public AlgorithmState getAlgorithmState() {
+        return algorithmState;
+    }
+
+    void setAlgorithmState(AlgorithmState algorithmState) {
+        this.algorithmState = algorithmState;
+    }
+
+    public DataStructureType getDataStructureType() {
+        return dataStructureType;
+    }
+
+    public MazeStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Path from start to end once the search has finished, empty otherwise.
+     */
+    public MazePath getPath() {
+        return path;
+    }
+
+    /**
+     * Copies of the frontier for the strategy in use. Like every other accessor that reads
+     * search structures, call it on the thread running the engine.
+     */
+    public FrontierSnapshot snapshotFrontier() {
+        switch (dataStructureType) {
+            case STACK:
+                return new FrontierSnapshot(getStack(), Collections.emptyList(), Collections.emptyList());
+            case QUEUE:
+                return new FrontierSnapshot(getQueue(), Collections.emptyList(), Collections.emptyList());
+            case LINKED_LIST:
+                return new FrontierSnapshot(getLinkedList(), Collections.emptyList(), Collections.emptyList());
+            case BIDIRECTIONAL_BFS:
+            case BIDIRECTIONAL_A_STAR:
+                return new FrontierSnapshot(Collections.emptyList(), getForwardFrontier(), getBackwardFrontier());
+            default:
+                return new FrontierSnapshot(getAStarOpenSet(), Collections.emptyList(), Collections.emptyList());
+        }
+    }
+
+    public List<Position> getStack() {
+        return new ArrayList<>(stack);
+    }
+
+    public List<Position> getQueue() {
+        List<Position> result = new ArrayList<>(queue.size());
+        for (int i = 0; i < queue.size(); i++) {
+            result.add(toPosition(queue.get(i)));
+        }
+        return result;
+    }
+
+    public List<Position> getLinkedList() {
+        return new ArrayList<>(linkedList);
+    }
+
+    public List<Position> getAStarOpenSet() {
+        List<Position> result = new ArrayList<>();
+        IndexedMinHeap heap = dataStructureType == DataStructureType.D_STAR_LITE && dStarLite != null
+            ? dStarLite.getOpenSet() : openSet;
+        if (heap != null) {
+            for (int i = 0; i < heap.size(); i++) {
+                result.add(toPosition(heap.itemAt(i)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Frontier of the side searching from start; empty for one-directional strategies.
+     */
+    public List<Position> getForwardFrontier() {
+        return frontierOf(forward);
+    }
+
+    /**
+     * Frontier of the side searching from end; empty for one-directional strategies.
+     */
+    public List<Position> getBackwardFrontier() {
+        return frontierOf(backward);
+    }
+
+    private List<Position> frontierOf(SearchSide side) {
+        List<Position> result = new ArrayList<>();
+        if (side == null || !isBidirectional()) {
+            return result;
+        }
+        for (int i = 0; i < side.frontierSize(); i++) {
+            result.add(toPosition(side.queue != null ? side.queue.get(i) : side.openSet.itemAt(i)));
+        }
+        return result;
+    }
+
+    private boolean isBidirectional() {
+        return dataStructureType == DataStructureType.BIDIRECTIONAL_BFS
+            || dataStructureType == DataStructureType.BIDIRECTIONAL_A_STAR;
+    }
+
+    public CellStateBuffer getCellStates() {
+        return cellStates;
+    }
+
+    public Position getCurrentPosition() {
+        int cell = currentCell();
+        return cell < 0 ? null : toPosition(cell);
+    }
+
+    // Cell the search expands next, -1 for none
+    private int currentCell() {
+        switch (dataStructureType) {
+            case STACK:
+                return stack.isEmpty() ? -1 : indexOf(stack.get(stack.size() - 1));
+            case QUEUE:
+                return queue.isEmpty() ? -1 : queue.peek();
+            case LINKED_LIST:
+                // For linked list, return the current node at the index
+                if (linkedListCurrentIndex < linkedList.size()) {
+                    return indexOf(linkedList.get(linkedListCurrentIndex));
+                }
+                return -1;
+            case A_STAR:
+            case JUMP_POINT:
+            case CORRIDOR_GRAPH:
+                // Return the node with lowest f(n) from open set
+                if (openSet != null && !openSet.isEmpty()) {
+                    return openSet.peek();
+                }
+                return -1;
+            case BIDIRECTIONAL_BFS:
+                if (activeSide != null && !activeSide.queue.isEmpty()) {
+                    return activeSide.queue.peek();
+                }
+                return -1;
+            case BIDIRECTIONAL_A_STAR:
+                if (activeSide != null && !activeSide.openSet.isEmpty()) {
+                    return activeSide.openSet.peek();
+                }
+                return -1;
+            case D_STAR_LITE:
+                if (dStarLite != null && !dStarLite.getOpenSet().isEmpty()) {
+                    return dStarLite.getOpenSet().peek();
+                }
+                return -1;
+            default:
+                return -1;
+        }
+    }
+
+    // Hands the current cell to the renderer along with the cell states
+    private void publishCurrent() {
+        if (cellStates != null && cellStates.setCurrent(currentCell())) {
+            notifyCellStatesChanged();
+        }
+    }
+
+    /**
+     * Runs the whole search on the calling thread and returns the outcome.
+     */
+    public SolveResult solve() {
+        initialize();
+        algorithmState = AlgorithmState.RUNNING;
+        while (step()) {
+            // keep stepping until the search finishes or runs out of cells
+        }
+        if (algorithmState == AlgorithmState.RUNNING) {
+            algorithmState = AlgorithmState.NO_PATH;
+        }
+        stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+        return new SolveResult(algorithmState, path, stats);
+    }
+
+    /**
+     * Resets all search structures and seeds them with the start position.
+     */
+    public void initialize() {
+        reset();
+        markVisited(indexOf(start));
+        startTime = System.currentTimeMillis();
+        stats.setCellsVisited(1);
+        unreachable = !isReachable();
+        searchGrid = grid;
+        boolean fillDeadEnds = deadEndFilling && dataStructureType != DataStructureType.D_STAR_LITE && !unreachable;
+        if (dataStructureType == DataStructureType.CORRIDOR_GRAPH) {
+            // The graph search never reads the grid; the cache fills dead ends before building
+            corridorGraph = corridorGraphs.get(grid, indexOf(start), indexOf(end), fillDeadEnds);
+            stats.setCellsPruned(corridorGraph.getCellsPruned());
+            if (!corridorGraph.isNode(indexOf(start)) || !corridorGraph.isNode(indexOf(end))) {
+                unreachable = true;  // a walled start or end is not on the graph; step() ends with NO_PATH
+            }
+        } else if (fillDeadEnds) {
+            searchGrid = grid.copy();
+            stats.setCellsPruned(DeadEndFiller.fill(searchGrid, indexOf(start), indexOf(end)));
+        }
+
+        switch (dataStructureType) {
+            case STACK:
+                stack.add(start); // Push start to stack
+                break;
+            case QUEUE:
+                queue.add(indexOf(start)); // Enqueue start
+                parent = allocate(parent, -1); // Start has no parent
+                break;
+            case LINKED_LIST:
+                linkedList.add(start); // Add start as first node
+                linkedListCurrentIndex = 0; // Start from the beginning
+                break;
+            case A_STAR:
+            case JUMP_POINT:
+            case CORRIDOR_GRAPH:
+                // Initialize A* algorithm (Jump Point Search and the corridor graph share its open set and scores)
+                int startCell = indexOf(start);
+                parent = allocate(parent, -1);
+                gScore = allocate(gScore, Integer.MAX_VALUE);
+                gScore[startCell] = 0;
+                if (openSet == null) {
+                    openSet = new IndexedMinHeap(width * height);
+                }
+                openSet.insert(startCell, aStarKey(0, heuristic(start.getX(), start.getY())));
+                break;
+            case BIDIRECTIONAL_BFS:
+            case BIDIRECTIONAL_A_STAR:
+                if (forward == null) {
+                    boolean bestFirst = dataStructureType == DataStructureType.BIDIRECTIONAL_A_STAR;
+                    forward = new SearchSide(width * height, indexOf(end), bestFirst);
+                    backward = new SearchSide(width * height, indexOf(start), bestFirst);
+                }
+                seed(forward, indexOf(start));
+                seed(backward, indexOf(end));
+                recordMeeting(indexOf(start));  // start == end
+                activeSide = forward;
+                break;
+            case D_STAR_LITE:
+                // Searches backwards from the end towards the start
+                dStarLite = new DStarLite(grid, indexOf(start), indexOf(end));
+                dStarLite.setOnEnqueued(this::markDiscovered);
+                break;
+        }
+        publishCurrent();
+    }
+
+    private boolean isReachable() {
+        return connectivity == null || connectivity.isConnected(indexOf(start), indexOf(end));
+    }
+
+    private int indexOf(Position pos) {
+        return pos.getY() * width + pos.getX();
+    }
+
+    private Position toPosition(int cell) {
+        return new Position(cell % width, cell / width);
+    }
+
+    // Returns a per-cell array filled with the given value, reusing the old one when possible
+    private int[] allocate(int[] array, int fill) {
+        if (array == null) {
+            array = new int[width * height];
+        }
+        Arrays.fill(array, fill);
+        return array;
+    }
+
+    private void markVisited(int cell) {
+        visited.set(cell);
+        visitedCount++;
+    }
+
+    private boolean isOpen(int x, int y) {
+        return searchGrid.isOpen(x, y);
+    }
+
+    /**
+     * Collects the open, not yet visited neighbors of a cell into {@link #neighborBuffer}.
+     *
+     * @return the number of neighbors found
+     */
+    private int getNeighbors(int x, int y) {
+        int count = 0;
+        for (int[] dir : DIRECTIONS) {
+            int newX = x + dir[0];
+            int newY = y + dir[1];
+            if (isOpen(newX, newY) && !visited.get(newY * width + newX)) {
+                neighborBuffer[count++] = newY * width + newX;
+            }
+        }
+        return count;
+    }
+
+    private void updateCellState(int x, int y, CellState state) {
+        if (cellStates == null) return;
+        cellStates.set(x, y, state);
+        notifyCellStatesChanged();
+    }
+
+    private void notifyStateChanged() {
+        if (onStateChanged != null) {
+            onStateChanged.run();
+        }
+    }
+
+    private void notifyStatsChanged() {
+        if (onStatsChanged != null) {
+            onStatsChanged.run();
+        }
+    }
+
+    private void notifyCellStatesChanged() {
+        if (onCellStatesChanged != null) {
+            onCellStatesChanged.run();
+        }
+    }
+
+    private void finish(MazePath foundPath) {
+        path = foundPath;
+        for (int i = 0; i < foundPath.length(); i++) {
+            int x = foundPath.getX(i);
+            int y = foundPath.getY(i);
+            if (!(x == start.getX() && y == start.getY()) &&
+                !(x == end.getX() && y == end.getY())) {
+                updateCellState(x, y, CellState.PATH);
+            }
+        }
+        stats.setPathLength(foundPath.length());
+        algorithmState = AlgorithmState.FINISHED;
+        notifyStateChanged();
+        notifyStatsChanged();
+    }
+
+    private boolean stepStack() {
+        if (stack.isEmpty()) {
+            algorithmState = AlgorithmState.NO_PATH;
+            notifyStateChanged();
+            return false;
+        }
+
+        // Stack: LIFO - get from top (last element)
+        Position current = stack.get(stack.size() - 1);
+
+        if (current.getX() == end.getX() && current.getY() == end.getY()) {
+            // Found the end! The stack contains the path from start to end
+            finish(MazePath.fromPositions(stack, width));
+            return false;
+        }
+
+        if (getNeighbors(current.getX(), current.getY()) > 0) {
+            // DFS: Take first neighbor and push to stack
+            Position next = toPosition(neighborBuffer[0]);
+            markVisited(neighborBuffer[0]);
+            stack.add(next); // Push to stack (add to end)
+
+            if (!(current.getX() == start.getX() && current.getY() == start.getY())) {
+                updateCellState(current.getX(), current.getY(), CellState.VISITED);
+            }
+            if (!(next.getX() == end.getX() && next.getY() == end.getY())) {
+                updateCellState(next.getX(), next.getY(), CellState.CURRENT);
+            }
+
+            stats.incrementStepsTaken();
+            stats.setCellsVisited(visitedCount);
+            stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+            notifyStatsChanged();
+            return true;
+        } else {
+            // No neighbors: backtrack (pop from stack)
+            stack.remove(stack.size() - 1); // Pop from stack (remove from end)
+
+            if (!(current.getX() == start.getX() && current.getY() == start.getY()) &&
+                !(current.getX() == end.getX() && current.getY() == end.getY())) {
+                updateCellState(current.getX(), current.getY(), CellState.BACKTRACKED);
+            }
+            if (!stack.isEmpty()) {
+                Position prev = stack.get(stack.size() - 1);
+                if (!(prev.getX() == start.getX() && prev.getY() == start.getY()) &&
+                    !(prev.getX() == end.getX() && prev.getY() == end.getY())) {
+                    updateCellState(prev.getX(), prev.getY(), CellState.CURRENT);
+                }
+            }
+
+            stats.incrementStepsTaken();
+            stats.incrementBacktracks();
+            stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+            notifyStatsChanged();
+            return !stack.isEmpty();
+        }
+    }
+
+    private boolean stepQueue() {
+        if (queue.isEmpty()) {
+            algorithmState = AlgorithmState.NO_PATH;
+            notifyStateChanged();
+            return false;
+        }
+
+        // Queue: FIFO - remove from front (first element)
+        int currentCell = queue.poll();
+        int currentX = currentCell % width;
+        int currentY = currentCell / width;
+
+        if (currentX == end.getX() && currentY == end.getY()) {
+            // Found the end! Reconstruct path using parent array
+            finish(MazePath.fromParents(parent, currentCell, width));
+            return false;
+        }
+
+        // BFS: Explore all neighbors and add to queue
+        int neighborCount = getNeighbors(currentX, currentY);
+        for (int i = 0; i < neighborCount; i++) {
+            int neighbor = neighborBuffer[i];
+            markVisited(neighbor);
+            queue.add(neighbor); // Enqueue (add to end)
+            parent[neighbor] = currentCell; // Track parent for path reconstruction
+        }
+
+        if (!(currentX == start.getX() && currentY == start.getY())) {
+            updateCellState(currentX, currentY, CellState.VISITED);
+        }
+        if (!queue.isEmpty()) {
+            int next = queue.peek(); // Next to process (front of queue)
+            int nextX = next % width;
+            int nextY = next / width;
+            if (!(nextX == end.getX() && nextY == end.getY())) {
+                updateCellState(nextX, nextY, CellState.CURRENT);
+            }
+        }
+
+        stats.incrementStepsTaken();
+        stats.setCellsVisited(visitedCount);
+        stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+        notifyStatsChanged();
+        return !queue.isEmpty();
+    }
+
+    private boolean stepLinkedList() {
+        if (linkedList.isEmpty() || linkedListCurrentIndex >= linkedList.size()) {
+            algorithmState = AlgorithmState.NO_PATH;
+            notifyStateChanged();
+            return false;
+        }
+
+        // Linked List: Sequential traversal from head to tail
+        // We traverse the list sequentially, moving forward one node at a time
+        Position current = linkedList.get(linkedListCurrentIndex);
+
+        if (current.getX() == end.getX() && current.getY() == end.getY()) {
+            // Found the end! The path runs from the head to the current index
+            finish(MazePath.fromPositions(linkedList.subList(0, linkedListCurrentIndex + 1), width));
+            return false;
+        }
+
+        if (getNeighbors(current.getX(), current.getY()) > 0) {
+            // Add next node to linked list (append new node at the end)
+            Position next = toPosition(neighborBuffer[0]);
+            markVisited(neighborBuffer[0]);
+            linkedList.add(next); // Add new node at the end
+
+            // Move to the next node in the list (sequential traversal)
+            linkedListCurrentIndex++;
+
+            if (!(current.getX() == start.getX() && current.getY() == start.getY())) {
+                updateCellState(current.getX(), current.getY(), CellState.VISITED);
+            }
+            if (!(next.getX() == end.getX() && next.getY() == end.getY())) {
+                updateCellState(next.getX(), next.getY(), CellState.CURRENT);
+            }
+
+            stats.incrementStepsTaken();
+            stats.setCellsVisited(visitedCount);
+            stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+            notifyStatsChanged();
+            return true;
+        } else {
+            // No neighbors: backtrack by moving to previous node
+            // In a linked list, we can't easily remove nodes, so we move the index back
+            if (linkedListCurrentIndex > 0) {
+                linkedListCurrentIndex--; // Move back to previous node
+
+                if (!(current.getX() == start.getX() && current.getY() == start.getY()) &&
+                    !(current.getX() == end.getX() && current.getY() == end.getY())) {
+                    updateCellState(current.getX(), current.getY(), CellState.BACKTRACKED);
+                }
+
+                Position prev = linkedList.get(linkedListCurrentIndex);
+                if (!(prev.getX() == start.getX() && prev.getY() == start.getY()) &&
+                    !(prev.getX() == end.getX() && prev.getY() == end.getY())) {
+                    updateCellState(prev.getX(), prev.getY(), CellState.CURRENT);
+                }
+            } else {
+                // Can't go back further - no path found
+                algorithmState = AlgorithmState.NO_PATH;
+                notifyStateChanged();
+                return false;
+            }
+
+            stats.incrementStepsTaken();
+            stats.incrementBacktracks();
+            stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+            notifyStatsChanged();
+            return linkedListCurrentIndex < linkedList.size();
+        }
+    }
+
+    private boolean stepAStar() {
+        if (openSet.isEmpty()) {
+            algorithmState = AlgorithmState.NO_PATH;
+            notifyStateChanged();
+            return false;
+        }
+
+        // Get node with lowest f(n) from open set
+        int currentCell = openSet.poll();
+        int currentX = currentCell % width;
+        int currentY = currentCell / width;
+
+        // Move from open set to closed set (each cell is polled at most once)
+        closedSet.set(currentCell);
+        closedCount++;
+
+        // Check if we reached the end
+        if (currentX == end.getX() && currentY == end.getY()) {
+            // Reconstruct path using parent array
+            finish(MazePath.fromParents(parent, currentCell, width));
+            return false;
+        }
+
+        // Mark current as visited
+        if (!(currentX == start.getX() && currentY == start.getY())) {
+            updateCellState(currentX, currentY, CellState.VISITED);
+        }
+
+        // Explore neighbors: open cells within bounds, closed ones are skipped below
+        for (int[] dir : DIRECTIONS) {
+            int neighborX = currentX + dir[0];
+            int neighborY = currentY + dir[1];
+            if (!isOpen(neighborX, neighborY)) {
+                continue;
+            }
+            int neighbor = neighborY * width + neighborX;
+
+            // Skip if already in closed set
+            if (closedSet.get(neighbor)) {
+                continue;
+            }
+
+            // Calculate tentative g score (cost from start to neighbor)
+            int tentativeG = gScore[currentCell] + 1; // Each step costs 1
+
+            // If this path to neighbor is better, update it
+            if (tentativeG < gScore[neighbor]) {
+                parent[neighbor] = currentCell;
+                gScore[neighbor] = tentativeG;
+
+                // Add to open set, or lower its key in place if it is already there
+                openSet.insertOrDecrease(neighbor, aStarKey(tentativeG, heuristic(neighborX, neighborY)));
+
+                if (!(neighborX == end.getX() && neighborY == end.getY())) {
+                    updateCellState(neighborX, neighborY, CellState.CURRENT);
+                }
+            }
+        }
+
+        // Update stats
+        stats.incrementStepsTaken();
+        stats.setCellsVisited(closedCount);
+        stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+        notifyStatsChanged();
+
+        return !openSet.isEmpty();
+    }
+
+    /**
+     * Jump Point Search on the 4-connected grid: A* whose successors are only the
+     * jump points reached by scanning straight lines, so runs of symmetric cells
+     * in open areas are skipped instead of being pushed onto the open set.
+     */
+    private boolean stepJumpPoint() {
+        if (openSet.isEmpty()) {
+            algorithmState = AlgorithmState.NO_PATH;
+            notifyStateChanged();
+            return false;
+        }
+
+        int currentCell = openSet.poll();
+        int currentX = currentCell % width;
+        int currentY = currentCell / width;
+        closedSet.set(currentCell);
+        closedCount++;
+
+        if (currentX == end.getX() && currentY == end.getY()) {
+            finish(jumpPointPath(currentCell));
+            return false;
+        }
+
+        if (!(currentX == start.getX() && currentY == start.getY())) {
+            updateCellState(currentX, currentY, CellState.VISITED);
+        }
+
+        // Never scan back towards the parent: those cells already have a smaller g
+        int parentCell = parent[currentCell];
+        int backX = 0;
+        int backY = 0;
+        if (parentCell != -1) {
+            backX = Integer.signum(parentCell % width - currentX);
+            backY = Integer.signum(parentCell / width - currentY);
+        }
+
+        for (int[] dir : DIRECTIONS) {
+            if (dir[0] == backX && dir[1] == backY) {
+                continue;
+            }
+            int jumpPoint = dir[0] != 0
+                ? jumpHorizontal(currentX, currentY, dir[0])
+                : jumpVertical(currentX, currentY, dir[1]);
+            if (jumpPoint == -1 || closedSet.get(jumpPoint)) {
+                continue;
+            }
+
+            int jumpX = jumpPoint % width;
+            int jumpY = jumpPoint / width;
+            int tentativeG = gScore[currentCell] + Math.abs(jumpX - currentX) + Math.abs(jumpY - currentY);
+            if (tentativeG < gScore[jumpPoint]) {
+                parent[jumpPoint] = currentCell;
+                gScore[jumpPoint] = tentativeG;
+                openSet.insertOrDecrease(jumpPoint, aStarKey(tentativeG, heuristic(jumpX, jumpY)));
+
+                if (!(jumpX == end.getX() && jumpY == end.getY())) {
+                    updateCellState(jumpX, jumpY, CellState.CURRENT);
+                }
+            }
+        }
+
+        stats.incrementStepsTaken();
+        stats.setCellsVisited(closedCount);
+        stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+        notifyStatsChanged();
+
+        return !openSet.isEmpty();
+    }
+
+    /**
+     * Scans from (x, y) in direction dx until the end, a dead stop, or a cell with a
+     * forced neighbor: an open cell above or below whose counterpart behind is a wall.
+     *
+     * @return the jump point's cell index, or -1 if the scan hits a wall first
+     */
+    private int jumpHorizontal(int x, int y, int dx) {
+        while (true) {
+            x += dx;
+            if (!isOpen(x, y)) {
+                return -1;
+            }
+            if (x == end.getX() && y == end.getY()) {
+                return y * width + x;
+            }
+            if ((isOpen(x, y - 1) && !isOpen(x - dx, y - 1)) ||
+                (isOpen(x, y + 1) && !isOpen(x - dx, y + 1))) {
+                return y * width + x;
+            }
+        }
+    }
+
+    /**
+     * Scans from (x, y) in direction dy. Besides forced neighbors, a cell is a jump
+     * point when a horizontal scan from it finds one, since paths may only turn there.
+     */
+    private int jumpVertical(int x, int y, int dy) {
+        while (true) {
+            y += dy;
+            if (!isOpen(x, y)) {
+                return -1;
+            }
+            if (x == end.getX() && y == end.getY()) {
+                return y * width + x;
+            }
+            if ((isOpen(x - 1, y) && !isOpen(x - 1, y - dy)) ||
+                (isOpen(x + 1, y) && !isOpen(x + 1, y - dy))) {
+                return y * width + x;
+            }
+            if (jumpHorizontal(x, y, 1) != -1 || jumpHorizontal(x, y, -1) != -1) {
+                return y * width + x;
+            }
+        }
+    }
+
+    // Jump points are joined by straight segments, so the full path is filled in between them
+    private MazePath jumpPointPath(int endCell) {
+        int[] cells = new int[gScore[endCell] + 1];
+        int index = cells.length - 1;
+        cells[index] = endCell;
+        for (int cell = endCell; parent[cell] != -1; cell = parent[cell]) {
+            int from = parent[cell];
+            int step = from % width == cell % width ? width : 1;
+            if (from > cell) step = -step;
+            for (int c = cell - step; c != from; c -= step) {
+                cells[--index] = c;
+            }
+            cells[--index] = from;
+        }
+        return MazePath.ofCells(cells, width);
+    }
+
+    /**
+     * A* on the {@link CorridorGraph}: each step expands a junction and relaxes the
+     * corridors leaving it in one move each, whatever their length. Only junctions are
+     * marked as visited; the cells of the corridors on the path are filled in at the end.
+     */
+    private boolean stepCorridorGraph() {
+        if (openSet.isEmpty()) {
+            algorithmState = AlgorithmState.NO_PATH;
+            notifyStateChanged();
+            return false;
+        }
+
+        int currentCell = openSet.poll();
+        int currentX = currentCell % width;
+        int currentY = currentCell / width;
+        closedSet.set(currentCell);
+        closedCount++;
+
+        if (currentX == end.getX() && currentY == end.getY()) {
+            finish(corridorPath(currentCell));
+            return false;
+        }
+
+        if (!(currentX == start.getX() && currentY == start.getY())) {
+            updateCellState(currentX, currentY, CellState.VISITED);
+        }
+
+        int edgesEnd = corridorGraph.edgesEnd(currentCell);
+        for (int edge = corridorGraph.edgesStart(currentCell); edge < edgesEnd; edge++) {
+            int neighbor = corridorGraph.getTarget(edge);
+            if (closedSet.get(neighbor)) {
+                continue;
+            }
+            // A corridor is never shorter than the Manhattan distance it covers, so the
+            // heuristic stays consistent with edge lengths as costs
+            int tentativeG = gScore[currentCell] + corridorGraph.getLength(edge);
+            if (tentativeG < gScore[neighbor]) {
+                int neighborX = neighbor % width;
+                int neighborY = neighbor / width;
+                parent[neighbor] = edge;
+                gScore[neighbor] = tentativeG;
+                openSet.insertOrDecrease(neighbor, aStarKey(tentativeG, heuristic(neighborX, neighborY)));
+
+                if (!(neighborX == end.getX() && neighborY == end.getY())) {
+                    updateCellState(neighborX, neighborY, CellState.CURRENT);
+                }
+            }
+        }
+
+        stats.incrementStepsTaken();
+        stats.setCellsVisited(closedCount);
+        stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+        notifyStatsChanged();
+
+        return !openSet.isEmpty();
+    }
+
+    // Expands the edges on the way back from the end into the cells of their corridors
+    private MazePath corridorPath(int endCell) {
+        int[] cells = new int[gScore[endCell] + 1];
+        int index = cells.length;
+        int cell = endCell;
+        while (parent[cell] != -1) {
+            int edge = parent[cell];
+            index -= corridorGraph.getLength(edge);
+            corridorGraph.expand(edge, cells, index);
+            cell = corridorGraph.getSource(edge);
+        }
+        cells[--index] = cell;
+        return MazePath.ofCells(cells, width);
+    }
+
+    private void seed(SearchSide side, int root) {
+        side.dist[root] = 0;
+        if (dataStructureType == DataStructureType.BIDIRECTIONAL_BFS) {
+            side.queue.add(root);
+        } else {
+            side.openSet.insert(root, aStarKey(0, distance(root, side.target)));
+        }
+    }
+
+    private int distance(int from, int to) {
+        return Math.abs(from % width - to % width) + Math.abs(from / width - to / width);
+    }
+
+    /**
+     * Bidirectional BFS, one cell per step. Whole layers are expanded on the side with
+     * the smaller frontier; once a layer has produced a meeting the shortest one found
+     * in it is optimal, so the search stops at the end of that layer.
+     */
+    private boolean stepBidirectionalBfs() {
+        if (activeSide.layerRemaining == 0) {
+            if (meetCell != -1) {
+                finish(stitchPath());
+                return false;
+            }
+            if (forward.isExhausted() || backward.isExhausted()) {
+                algorithmState = AlgorithmState.NO_PATH;
+                notifyStateChanged();
+                return false;
+            }
+            activeSide = forward.queue.size() <= backward.queue.size() ? forward : backward;
+            activeSide.layerRemaining = activeSide.queue.size();
+        }
+
+        SearchSide side = activeSide;
+        SearchSide other = side == forward ? backward : forward;
+        int cell = side.queue.poll();
+        side.layerRemaining--;
+        side.closedCount++;
+        markExpanded(cell);
+
+        int x = cell % width;
+        int y = cell / width;
+        for (int[] dir : DIRECTIONS) {
+            int nx = x + dir[0];
+            int ny = y + dir[1];
+            if (!isOpen(nx, ny)) {
+                continue;
+            }
+            int neighbor = ny * width + nx;
+            if (side.dist[neighbor] != Integer.MAX_VALUE) {
+                continue;
+            }
+            side.dist[neighbor] = side.dist[cell] + 1;
+            side.parent[neighbor] = cell;
+            side.queue.add(neighbor);
+            markDiscovered(neighbor);
+            recordMeeting(neighbor);
+        }
+
+        stats.incrementStepsTaken();
+        stats.setCellsVisited(forward.closedCount + backward.closedCount);
+        stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+        notifyStatsChanged();
+        return true;
+    }
+
+    /**
+     * Bidirectional A*: the side with the smaller open set expands its best node. Both
+     * heuristics are consistent, so the best meeting is optimal once its length is no
+     * more than the larger of the two smallest f values.
+     */
+    private boolean stepBidirectionalAStar() {
+        if (forward.openSet.isEmpty() || backward.openSet.isEmpty()
+                || (meetCell != -1 && bestLength <= Math.max(topF(forward), topF(backward)))) {
+            if (meetCell != -1) {
+                finish(stitchPath());
+            } else {
+                algorithmState = AlgorithmState.NO_PATH;
+                notifyStateChanged();
+            }
+            return false;
+        }
+
+        activeSide = forward.openSet.size() <= backward.openSet.size() ? forward : backward;
+        SearchSide side = activeSide;
+        int cell = side.openSet.poll();
+        side.closed.set(cell);
+        side.closedCount++;
+        markExpanded(cell);
+
+        int x = cell % width;
+        int y = cell / width;
+        for (int[] dir : DIRECTIONS) {
+            int nx = x + dir[0];
+            int ny = y + dir[1];
+            if (!isOpen(nx, ny)) {
+                continue;
+            }
+            int neighbor = ny * width + nx;
+            if (side.closed.get(neighbor)) {
+                continue;
+            }
+            int tentative = side.dist[cell] + 1;
+            if (tentative < side.dist[neighbor]) {
+                side.dist[neighbor] = tentative;
+                side.parent[neighbor] = cell;
+                side.openSet.insertOrDecrease(neighbor, aStarKey(tentative, distance(neighbor, side.target)));
+                markDiscovered(neighbor);
+                recordMeeting(neighbor);
+            }
+        }
+
+        stats.incrementStepsTaken();
+        stats.setCellsVisited(forward.closedCount + backward.closedCount);
+        stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+        notifyStatsChanged();
+        return true;
+    }
+
+    private static int topF(SearchSide side) {
+        return (int) (side.openSet.peekKey() >>> 32);
+    }
+
+    // Uses the cell's current distances on both sides, so the parents always match the length
+    private void recordMeeting(int cell) {
+        if (forward.dist[cell] == Integer.MAX_VALUE || backward.dist[cell] == Integer.MAX_VALUE) {
+            return;
+        }
+        int length = forward.dist[cell] + backward.dist[cell];
+        if (length < bestLength) {
+            bestLength = length;
+            meetCell = cell;
+        }
+    }
+
+    // Forward parents lead from the meeting cell back to start, backward parents on to end
+    private MazePath stitchPath() {
+        int[] cells = new int[bestLength + 1];
+        int index = forward.dist[meetCell];
+        for (int cell = meetCell; cell != -1; cell = forward.parent[cell]) {
+            cells[index--] = cell;
+        }
+        index = forward.dist[meetCell] + 1;
+        for (int cell = backward.parent[meetCell]; cell != -1; cell = backward.parent[cell]) {
+            cells[index++] = cell;
+        }
+        return MazePath.ofCells(cells, width);
+    }
+
+    private void markExpanded(int cell) {
+        if (cell != indexOf(start) && cell != indexOf(end)) {
+            updateCellState(cell % width, cell / width, CellState.VISITED);
+        }
+    }
+
+    private void markDiscovered(int cell) {
+        if (cell != indexOf(start) && cell != indexOf(end)) {
+            updateCellState(cell % width, cell / width, CellState.CURRENT);
+        }
+    }
+
+    private boolean stepDStarLite() {
+        int cell;
+        do {
+            cell = dStarLite.step();
+        } while (cell == DStarLite.KEY_UPDATED);  // re-keying expands nothing; keys only grow
+        if (cell == -1) {
+            int[] cells = dStarLite.extractPath();
+            if (cells.length == 0) {
+                algorithmState = AlgorithmState.NO_PATH;
+                notifyStateChanged();
+            } else {
+                finish(MazePath.ofCells(cells, width));
+            }
+            return false;
+        }
+
+        markExpanded(cell);
+        closedCount++;
+        stats.incrementStepsTaken();
+        stats.setCellsVisited(closedCount);
+        stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+        notifyStatsChanged();
+        return true;
+    }
+
+    /**
+     * Whether {@link #replan} can be called: a D* Lite search has been initialized.
+     */
+    public boolean canReplan() {
+        return dataStructureType == DataStructureType.D_STAR_LITE && dStarLite != null;
+    }
+
+    /**
+     * Continues a D* Lite search after the caller toggled the wall at (x, y).
+     * Only cells whose distance to the end changed are expanded again; keep calling
+     * {@link #step()} until it returns {@code false}. Statistics restart from zero so
+     * they show the cost of the replan alone.
+     */
+    public void replan(int x, int y) {
+        if (!canReplan()) {
+            throw new IllegalStateException("Replanning needs an initialized D* Lite search");
+        }
+        resetCellStates();
+        dStarLite.cellChanged(x, y);
+        unreachable = !isReachable();
+        publishCurrent();
+        path = MazePath.EMPTY;
+        closedCount = 0;
+        stats.reset();
+        startTime = System.currentTimeMillis();
+        if (algorithmState != AlgorithmState.RUNNING) {
+            algorithmState = AlgorithmState.RUNNING;
+            notifyStateChanged();
+        }
+        notifyStatsChanged();
+        notifyCellStatesChanged();
+    }
+
+    /**
+     * Advances the search by one step.
+     *
+     * @return {@code true} while there is more work to do
+     */
+    public boolean step() {
+        boolean more = advance();
+        publishCurrent();
+        return more;
+    }
+
+    private boolean advance() {
+        if (unreachable) {
+            stats.setTimeElapsed(System.currentTimeMillis() - startTime);
+            algorithmState = AlgorithmState.NO_PATH;
+            notifyStateChanged();
+            notifyStatsChanged();
+            return false;
+        }
+        switch (dataStructureType) {
+            case STACK:
+                return stepStack();
+            case QUEUE:
+                return stepQueue();
+            case LINKED_LIST:
+                return stepLinkedList();
+            case A_STAR:
+                return stepAStar();
+            case JUMP_POINT:
+                return stepJumpPoint();
+            case BIDIRECTIONAL_BFS:
+                return stepBidirectionalBfs();
+            case BIDIRECTIONAL_A_STAR:
+                return stepBidirectionalAStar();
+            case D_STAR_LITE:
+                return stepDStarLite();
+            case CORRIDOR_GRAPH:
+                return stepCorridorGraph();
+            default:
+                return stepStack();
+        }
+    }
+
+    /**
+     * Clears every search structure, the statistics and (when tracked) the cell states.
+     */
+    public void reset() {
+        resetCellStates();
+        stack.clear();
+        queue.clear();
+        linkedList.clear();
+        visited.clear();
+        visitedCount = 0;
+        linkedListCurrentIndex = 0; // Reset linked list index
+        if (openSet != null) {
+            openSet.clear(); // Clear A* open set
+        }
+        closedSet.clear(); // Clear A* closed set
+        if (forward != null) {
+            forward.clear();
+            backward.clear();
+        }
+        activeSide = null;
+        meetCell = -1;
+        bestLength = Integer.MAX_VALUE;
+        dStarLite = null;
+        closedCount = 0;
+        path = MazePath.EMPTY;
+        stats.reset();
+        algorithmState = AlgorithmState.IDLE;
+        notifyStateChanged();
+        notifyStatsChanged();
+        notifyCellStatesChanged();
+    }
+
+    // Redraws start, end, walls and empty cells from the grid, dropping search marks
+    private void resetCellStates() {
+        if (cellStates != null) {
+            cellStates.reset(grid, start, end);
+        }
+    }
+}
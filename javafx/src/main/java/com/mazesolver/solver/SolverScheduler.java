@@ -0,0 +1,66 @@
+package com.mazesolver.solver;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Runs solver work on one shared daemon thread. Submitting a run cancels the previous
+ * one, and because there is a single worker the new run only starts after the old one
+ * has returned, so at most one run ever touches solver state at a time.
+ */
+public class SolverScheduler {
+    private static final SolverScheduler SHARED = new SolverScheduler();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "maze-solver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object lock = new Object();
+    private CancellationToken active;  // guarded by lock
+
+    public static SolverScheduler shared() {
+        return SHARED;
+    }
+
+    /**
+     * Cancels the active run, if any, and queues {@code task} behind it. The task
+     * should return promptly once its token is cancelled.
+     */
+    public CancellationToken submit(Consumer<CancellationToken> task) {
+        synchronized (lock) {
+            if (active != null) {
+                active.cancel();
+            }
+            CancellationToken token = new CancellationToken();
+            token.attach(executor.submit(() -> {
+                if (!token.isCancelled()) {
+                    task.accept(token);
+                }
+            }));
+            active = token;
+            return token;
+        }
+    }
+
+    /**
+     * Queues a short piece of work, such as a single step, behind the active run
+     * without cancelling it.
+     */
+    public void enqueue(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Cancels {@code token} if it is still the active run.
+     */
+    public void cancel(CancellationToken token) {
+        synchronized (lock) {
+            token.cancel();
+            if (active == token) {
+                active = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.mazesolver.solver;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Coalesces solver notifications into at most one delivery per JavaFX pulse.
+ * Posting the same callback several times within a frame runs it once; the pulse
+ * timer only runs while there is something to deliver.
+ */
+public class UiUpdateDispatcher {
+    private final Object lock = new Object();
+    private final Set<Runnable> pending = new LinkedHashSet<>();
+    private boolean scheduled = false;
+
+    private final AnimationTimer pulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            flush();
+        }
+    };
+
+    /**
+     * Queues a callback for the next frame. Safe to call from any thread.
+     */
+    public void post(Runnable task) {
+        boolean wake;
+        synchronized (lock) {
+            pending.add(task);
+            wake = !scheduled;
+            scheduled = true;
+        }
+        if (wake) {
+            Platform.runLater(pulse::start);
+        }
+    }
+
+    private void flush() {
+        Runnable[] tasks;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                // Nothing arrived during the last frame: go quiet until the next post
+                scheduled = false;
+                pulse.stop();
+                return;
+            }
+            tasks = pending.toArray(new Runnable[0]);
+            pending.clear();
+        }
+        for (Runnable task : tasks) {
+            task.run();
+        }
+    }
+}
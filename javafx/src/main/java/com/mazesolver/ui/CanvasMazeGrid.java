@@ -0,0 +1,223 @@
+package com.mazesolver.ui;
+
+import com.mazesolver.model.CellStateBuffer;
+import com.mazesolver.model.Position;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Maze renderer for large grids. Cell states are kept in an image with one pixel
+ * per cell, which is scaled onto a single {@link Canvas}; only changed cells are
+ * rewritten. Scroll to zoom around the cursor, drag to pan.
+ */
+public class CanvasMazeGrid extends Pane implements MazeView {
+    private static final double MAX_SCALE = 64;
+    private static final double GRID_LINE_MIN_SCALE = 8;
+
+    private final int columns;
+    private final int rows;
+    private final Canvas canvas = new Canvas();
+    private final WritableImage image;
+    private final PixelWriter pixels;
+
+    private Position currentPosition;
+    private BiConsumer<Integer, Integer> onCellClick;
+    private BiConsumer<Integer, Integer> onSetStart;
+    private BiConsumer<Integer, Integer> onSetEnd;
+    private boolean editingDisabled = false;
+
+    // View transform: screen = offset + cell * scale
+    private double scale = 1;
+    private double offsetX = 0;
+    private double offsetY = 0;
+    private boolean fitted = false;
+
+    private double dragStartX;
+    private double dragStartY;
+
+    public CanvasMazeGrid(int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+        this.image = new WritableImage(columns, rows);
+        this.pixels = image.getPixelWriter();
+
+        setPrefSize(700, 700);
+        setStyle("-fx-background-color: gray;");
+        getChildren().add(canvas);
+
+        canvas.addEventHandler(ScrollEvent.SCROLL, this::handleScroll);
+        canvas.addEventHandler(MouseEvent.MOUSE_PRESSED, e -> {
+            dragStartX = e.getX();
+            dragStartY = e.getY();
+        });
+        canvas.addEventHandler(MouseEvent.MOUSE_DRAGGED, e -> {
+            offsetX += e.getX() - dragStartX;
+            offsetY += e.getY() - dragStartY;
+            dragStartX = e.getX();
+            dragStartY = e.getY();
+            redraw();
+        });
+        canvas.addEventHandler(MouseEvent.MOUSE_CLICKED, e -> {
+            // A drag that ends on the canvas is a pan, not a click
+            if (e.isStillSincePress()) {
+                handleCellClick(e);
+            }
+        });
+    }
+
+    @Override
+    protected void layoutChildren() {
+        canvas.setWidth(getWidth());
+        canvas.setHeight(getHeight());
+        if (!fitted && getWidth() > 0 && getHeight() > 0) {
+            fitToView();
+            fitted = true;
+        }
+        redraw();
+    }
+
+    /**
+     * Zooms so the whole maze fits the viewport and centers it.
+     */
+    public void fitToView() {
+        scale = Math.min(getWidth() / columns, getHeight() / rows);
+        offsetX = (getWidth() - columns * scale) / 2;
+        offsetY = (getHeight() - rows * scale) / 2;
+        redraw();
+    }
+
+    @Override
+    public void setCellStates(CellStateBuffer cellStates) {
+        writePixels(cellStates.snapshot());
+        redraw();
+    }
+
+    @Override
+    public void updateCells(CellStateBuffer.Snapshot changes) {
+        writePixels(changes);
+        this.currentPosition = changes.getCurrentPosition();
+        redraw();
+    }
+
+    @Override
+    public void setCurrentPosition(Position position) {
+        this.currentPosition = position;
+        redraw();
+    }
+
+    @Override
+    public void setEditingDisabled(boolean disabled) {
+        // Zoom and pan stay available while the solver runs
+        this.editingDisabled = disabled;
+    }
+
+    @Override
+    public void setOnCellClick(BiConsumer<Integer, Integer> callback) {
+        this.onCellClick = callback;
+    }
+
+    @Override
+    public void setOnSetStart(BiConsumer<Integer, Integer> callback) {
+        this.onSetStart = callback;
+    }
+
+    @Override
+    public void setOnSetEnd(BiConsumer<Integer, Integer> callback) {
+        this.onSetEnd = callback;
+    }
+
+    @Override
+    public Node asNode() {
+        return this;
+    }
+
+    private void writePixels(CellStateBuffer.Snapshot changes) {
+        for (int i = 0; i < changes.size(); i++) {
+            pixels.setColor(changes.getX(i), changes.getY(i), CellColors.forState(changes.getState(i)));
+        }
+    }
+
+    private void handleScroll(ScrollEvent e) {
+        double minScale = Math.min(1, Math.min(getWidth() / columns, getHeight() / rows)) / 2;
+        double factor = Math.pow(1.1, e.getDeltaY() / 40);
+        double newScale = Math.max(minScale, Math.min(MAX_SCALE, scale * factor));
+
+        // Keep the cell under the cursor in place
+        offsetX = e.getX() - (e.getX() - offsetX) * newScale / scale;
+        offsetY = e.getY() - (e.getY() - offsetY) * newScale / scale;
+        scale = newScale;
+        redraw();
+        e.consume();
+    }
+
+    private void handleCellClick(MouseEvent e) {
+        if (editingDisabled) return;
+
+        int x = (int) Math.floor((e.getX() - offsetX) / scale);
+        int y = (int) Math.floor((e.getY() - offsetY) / scale);
+        if (x < 0 || x >= columns || y < 0 || y >= rows) return;
+
+        if (e.isShiftDown()) {
+            if (onSetStart != null) onSetStart.accept(x, y);
+        } else if (e.isAltDown()) {
+            if (onSetEnd != null) onSetEnd.accept(x, y);
+        } else {
+            if (onCellClick != null) onCellClick.accept(x, y);
+        }
+    }
+
+    private void redraw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        gc.clearRect(0, 0, width, height);
+
+        gc.setImageSmoothing(false);
+        gc.drawImage(image, offsetX, offsetY, columns * scale, rows * scale);
+
+        if (scale >= GRID_LINE_MIN_SCALE) {
+            drawGridLines(gc, width, height);
+        }
+
+        if (currentPosition != null) {
+            gc.setStroke(Color.CYAN);
+            gc.setLineWidth(Math.max(1, Math.min(2, scale / 4)));
+            gc.strokeRect(offsetX + currentPosition.getX() * scale, offsetY + currentPosition.getY() * scale,
+                scale, scale);
+        }
+    }
+
+    private void drawGridLines(GraphicsContext gc, double width, double height) {
+        // Only the lines inside the viewport are drawn
+        int firstColumn = Math.max(0, (int) Math.floor(-offsetX / scale));
+        int lastColumn = Math.min(columns, (int) Math.ceil((width - offsetX) / scale));
+        int firstRow = Math.max(0, (int) Math.floor(-offsetY / scale));
+        int lastRow = Math.min(rows, (int) Math.ceil((height - offsetY) / scale));
+        if (firstColumn > lastColumn || firstRow > lastRow) return;
+
+        double top = offsetY + firstRow * scale;
+        double bottom = offsetY + lastRow * scale;
+        double left = offsetX + firstColumn * scale;
+        double right = offsetX + lastColumn * scale;
+
+        gc.setStroke(Color.LIGHTGRAY);
+        gc.setLineWidth(1);
+        for (int x = firstColumn; x <= lastColumn; x++) {
+            double px = offsetX + x * scale;
+            gc.strokeLine(px, top, px, bottom);
+        }
+        for (int y = firstRow; y <= lastRow; y++) {
+            double py = offsetY + y * scale;
+            gc.strokeLine(left, py, right, py);
+        }
+    }
+}
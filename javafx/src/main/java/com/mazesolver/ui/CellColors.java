@@ -0,0 +1,35 @@
+package com.mazesolver.ui;
+
+import com.mazesolver.model.CellState;
+import javafx.scene.paint.Color;
+
+/**
+ * Fill colors for each cell state, shared by the maze renderers.
+ */
+public final class CellColors {
+    private CellColors() {
+    }
+
+    public static Color forState(CellState state) {
+        switch (state) {
+            case EMPTY:
+                return Color.WHITE;
+            case WALL:
+                return Color.DARKGRAY;
+            case START:
+                return Color.GREEN;
+            case END:
+                return Color.RED;
+            case VISITED:
+                return Color.LIGHTBLUE;
+            case CURRENT:
+                return Color.BLUE;
+            case PATH:
+                return Color.LIGHTGREEN;
+            case BACKTRACKED:
+                return Color.LIGHTGRAY;
+            default:
+                return Color.WHITE;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.mazesolver.ui;
 
 import com.mazesolver.model.AlgorithmState;
+import com.mazesolver.model.GeneratorType;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -8,12 +9,22 @@ import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 
 public class ControlPanel extends VBox {
+    public static final int MIN_GRID_SIDE = 2;
+    public static final int MAX_GRID_SIDE = 5000;
+
     private Button playPauseButton;
     private Button stepButton;
     private Button resetButton;
     private Button clearButton;
+    private Button generateButton;
+    private ComboBox<GeneratorType> generatorBox;
+    private Spinner<Integer> seedSpinner;
+    private Spinner<Integer> widthSpinner;
+    private Spinner<Integer> heightSpinner;
     private Slider speedSlider;
     private Label speedLabel;
+    private CheckBox turboCheckBox;
+    private CheckBox deadEndCheckBox;
     private Label statusLabel;
 
     private Runnable onStart;
@@ -21,6 +32,7 @@ public class ControlPanel extends VBox {
     private Runnable onStepForward;
     private Runnable onReset;
     private Runnable onClear;
+    private Runnable onGenerate;
     private Runnable onSpeedChange;
 
     public ControlPanel() {
@@ -75,7 +87,12 @@ public class ControlPanel extends VBox {
         speedLabels.getChildren().addAll(new Label("Fast"), new Region(), new Label("Slow"));
         HBox.setHgrow(new Region(), Priority.ALWAYS);
 
-        speedBox.getChildren().addAll(speedHeader, speedSlider, speedLabels);
+        // Turbo: solve to completion without animation, only the result is shown
+        turboCheckBox = new CheckBox("Turbo (skip animation)");
+        // Dead-end filling: wall off branches that lead nowhere before the search starts
+        deadEndCheckBox = new CheckBox("Fill dead ends first");
+
+        speedBox.getChildren().addAll(speedHeader, speedSlider, speedLabels, turboCheckBox, deadEndCheckBox);
         getChildren().add(speedBox);
 
         // Reset and Clear buttons
@@ -91,7 +108,30 @@ public class ControlPanel extends VBox {
             if (onClear != null) onClear.run();
         });
 
-        getChildren().addAll(resetButton, clearButton);
+        // Grid dimensions used by Clear Maze and Generate
+        HBox sizeBox = new HBox(5);
+        sizeBox.setAlignment(Pos.CENTER_LEFT);
+        widthSpinner = createSizeSpinner();
+        heightSpinner = createSizeSpinner();
+        sizeBox.getChildren().addAll(new Label("Size:"), widthSpinner, new Label("x"), heightSpinner);
+
+        // Procedural maze: the same generator, size and seed give the same maze
+        generatorBox = new ComboBox<>();
+        generatorBox.getItems().addAll(GeneratorType.values());
+        generatorBox.setValue(GeneratorType.BACKTRACKER);
+        seedSpinner = new Spinner<>(0, Integer.MAX_VALUE, 1);
+        seedSpinner.setEditable(true);
+        seedSpinner.setPrefWidth(85);
+        HBox generatorOptions = new HBox(5, generatorBox, new Label("Seed:"), seedSpinner);
+        generatorOptions.setAlignment(Pos.CENTER_LEFT);
+
+        generateButton = new Button("Generate Maze");
+        generateButton.setMaxWidth(Double.MAX_VALUE);
+        generateButton.setOnAction(e -> {
+            if (onGenerate != null) onGenerate.run();
+        });
+
+        getChildren().addAll(resetButton, sizeBox, clearButton, generatorOptions, generateButton);
 
         // Status label
         statusLabel = new Label();
@@ -102,6 +142,13 @@ public class ControlPanel extends VBox {
         getChildren().add(statusLabel);
     }
 
+    private Spinner<Integer> createSizeSpinner() {
+        Spinner<Integer> spinner = new Spinner<>(MIN_GRID_SIDE, MAX_GRID_SIDE, 10);
+        spinner.setEditable(true);
+        spinner.setPrefWidth(85);
+        return spinner;
+    }
+
     private void handlePlayPause() {
         if (playPauseButton.getText().equals("Play")) {
             if (onStart != null) onStart.run();
@@ -131,6 +178,8 @@ public class ControlPanel extends VBox {
         // Clear button should work even when algorithm is running (will reset first)
         clearButton.setDisable(false);
         speedSlider.setDisable(isRunning);
+        turboCheckBox.setDisable(isRunning);
+        deadEndCheckBox.setDisable(isRunning);
 
         if (state == AlgorithmState.FINISHED) {
             statusLabel.setText("Path Found!");
@@ -148,6 +197,35 @@ public class ControlPanel extends VBox {
         return (int) speedSlider.getValue();
     }
 
+    public int getGridWidth() {
+        return widthSpinner.getValue();
+    }
+
+    public int getGridHeight() {
+        return heightSpinner.getValue();
+    }
+
+    public void setGridSize(int width, int height) {
+        widthSpinner.getValueFactory().setValue(width);
+        heightSpinner.getValueFactory().setValue(height);
+    }
+
+    public GeneratorType getGeneratorType() {
+        return generatorBox.getValue();
+    }
+
+    public long getSeed() {
+        return seedSpinner.getValue();
+    }
+
+    public boolean isTurboMode() {
+        return turboCheckBox.isSelected();
+    }
+
+    public boolean isDeadEndFilling() {
+        return deadEndCheckBox.isSelected();
+    }
+
     public void setOnStart(Runnable callback) {
         this.onStart = callback;
     }
@@ -168,6 +246,10 @@ public class ControlPanel extends VBox {
         this.onClear = callback;
     }
 
+    public void setOnGenerate(Runnable callback) {
+        this.onGenerate = callback;
+    }
+
     public void setOnSpeedChange(Runnable callback) {
         this.onSpeedChange = callback;
     }
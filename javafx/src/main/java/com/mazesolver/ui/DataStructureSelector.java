@@ -51,7 +51,43 @@ public class DataStructureSelector extends VBox {
             if (onTypeChanged != null) onTypeChanged.run();
         });
 
-        getChildren().addAll(stackButton, queueButton, linkedListButton, aStarButton);
+        RadioButton jumpPointButton = new RadioButton("Jump Point Search");
+        jumpPointButton.setToggleGroup(toggleGroup);
+        jumpPointButton.setUserData(DataStructureType.JUMP_POINT);
+        jumpPointButton.setOnAction(e -> {
+            if (onTypeChanged != null) onTypeChanged.run();
+        });
+
+        RadioButton bidirectionalBfsButton = new RadioButton("Bidirectional BFS");
+        bidirectionalBfsButton.setToggleGroup(toggleGroup);
+        bidirectionalBfsButton.setUserData(DataStructureType.BIDIRECTIONAL_BFS);
+        bidirectionalBfsButton.setOnAction(e -> {
+            if (onTypeChanged != null) onTypeChanged.run();
+        });
+
+        RadioButton bidirectionalAStarButton = new RadioButton("Bidirectional A*");
+        bidirectionalAStarButton.setToggleGroup(toggleGroup);
+        bidirectionalAStarButton.setUserData(DataStructureType.BIDIRECTIONAL_A_STAR);
+        bidirectionalAStarButton.setOnAction(e -> {
+            if (onTypeChanged != null) onTypeChanged.run();
+        });
+
+        RadioButton dStarLiteButton = new RadioButton("D* Lite (replanning)");
+        dStarLiteButton.setToggleGroup(toggleGroup);
+        dStarLiteButton.setUserData(DataStructureType.D_STAR_LITE);
+        dStarLiteButton.setOnAction(e -> {
+            if (onTypeChanged != null) onTypeChanged.run();
+        });
+
+        RadioButton corridorGraphButton = new RadioButton("Corridor Graph");
+        corridorGraphButton.setToggleGroup(toggleGroup);
+        corridorGraphButton.setUserData(DataStructureType.CORRIDOR_GRAPH);
+        corridorGraphButton.setOnAction(e -> {
+            if (onTypeChanged != null) onTypeChanged.run();
+        });
+
+        getChildren().addAll(stackButton, queueButton, linkedListButton, aStarButton, jumpPointButton,
+            bidirectionalBfsButton, bidirectionalAStarButton, dStarLiteButton, corridorGraphButton);
     }
 
     public DataStructureType getSelectedType() {
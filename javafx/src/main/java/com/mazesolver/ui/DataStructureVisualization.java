@@ -60,6 +60,16 @@ public class DataStructureVisualization extends VBox {
                 return "Linked List";
             case A_STAR:
                 return "A* Open Set";
+            case JUMP_POINT:
+                return "Jump Point Open Set";
+            case BIDIRECTIONAL_BFS:
+                return "Bidirectional Queues";
+            case BIDIRECTIONAL_A_STAR:
+                return "Bidirectional Open Sets";
+            case D_STAR_LITE:
+                return "D* Lite Open Set";
+            case CORRIDOR_GRAPH:
+                return "Junction Open Set";
             default:
                 return "Data Structure";
         }
@@ -82,7 +92,9 @@ public class DataStructureVisualization extends VBox {
         int maxVisible = 10;
         List<Position> visibleItems;
         
-        if (type == DataStructureType.QUEUE || type == DataStructureType.A_STAR) {
+        if (type == DataStructureType.QUEUE || type == DataStructureType.A_STAR
+                || type == DataStructureType.JUMP_POINT || type == DataStructureType.D_STAR_LITE
+                || type == DataStructureType.CORRIDOR_GRAPH) {
             visibleItems = positions.subList(0, Math.min(maxVisible, positions.size()));
         } else {
             int start = Math.max(0, positions.size() - maxVisible);
@@ -113,6 +125,42 @@ public class DataStructureVisualization extends VBox {
         }
     }
 
+    /**
+     * Shows the two frontiers of a bidirectional search in separate sections.
+     */
+    public void updateBidirectional(List<Position> fromStart, List<Position> fromEnd) {
+        contentBox.getChildren().clear();
+        countLabel.setText((fromStart.size() + fromEnd.size()) + " items");
+        addSection("From Start", fromStart);
+        addSection("From End", fromEnd);
+    }
+
+    private void addSection(String name, List<Position> positions) {
+        Label sectionLabel = new Label(name + " (" + positions.size() + ")");
+        sectionLabel.setStyle("-fx-font-size: 13px; -fx-font-weight: bold; -fx-text-fill: #444;");
+        sectionLabel.setPadding(new Insets(5, 0, 0, 0));
+        contentBox.getChildren().add(sectionLabel);
+
+        if (positions.isEmpty()) {
+            Label emptyLabel = new Label("Empty");
+            emptyLabel.setStyle("-fx-text-fill: #999; -fx-font-size: 12px;");
+            emptyLabel.setPadding(new Insets(5));
+            contentBox.getChildren().add(emptyLabel);
+            return;
+        }
+
+        int maxVisible = 5;
+        for (int i = 0; i < Math.min(maxVisible, positions.size()); i++) {
+            contentBox.getChildren().add(createItemBox(positions.get(i), i, i == 0));
+        }
+        if (positions.size() > maxVisible) {
+            Label moreLabel = new Label("+" + (positions.size() - maxVisible) + " more items");
+            moreLabel.setStyle("-fx-text-fill: #999; -fx-font-size: 12px; -fx-alignment: center;");
+            moreLabel.setPadding(new Insets(5));
+            contentBox.getChildren().add(moreLabel);
+        }
+    }
+
     private HBox createItemBox(Position pos, int index, boolean isHighlighted) {
         HBox item = new HBox(10);
         item.setPadding(new Insets(8));
@@ -139,8 +187,11 @@ public class DataStructureVisualization extends VBox {
                 tagLabel.setText("TOP");
             } else if (type == DataStructureType.QUEUE) {
                 tagLabel.setText("FRONT");
-            } else if (type == DataStructureType.A_STAR) {
+            } else if (type == DataStructureType.A_STAR || type == DataStructureType.JUMP_POINT
+                    || type == DataStructureType.D_STAR_LITE || type == DataStructureType.CORRIDOR_GRAPH) {
                 tagLabel.setText("BEST");
+            } else if (type == DataStructureType.BIDIRECTIONAL_BFS || type == DataStructureType.BIDIRECTIONAL_A_STAR) {
+                tagLabel.setText("NEXT");
             } else {
                 tagLabel.setText("CURRENT");
             }
@@ -1,8 +1,10 @@
 package com.mazesolver.ui;
 
 import com.mazesolver.model.CellState;
+import com.mazesolver.model.CellStateBuffer;
 import com.mazesolver.model.Position;
 import javafx.geometry.Insets;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
@@ -11,18 +13,26 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
 
-public class MazeGrid extends GridPane {
-    private CellState[][] cellStates;
-    private final int gridSize;
+/**
+ * Maze renderer with one node per cell, used for small grids.
+ */
+public class MazeGrid extends GridPane implements MazeView {
+    private final CellState[] states;  // last drawn state per cell
+    private final int width;
+    private final int height;
+    private final CellPane[] cells;
     private java.util.function.BiConsumer<Integer, Integer> onCellClick;
     private java.util.function.BiConsumer<Integer, Integer> onSetStart;
     private java.util.function.BiConsumer<Integer, Integer> onSetEnd;
     private boolean editingDisabled = false;
     private Position currentPosition;
 
-    public MazeGrid(int gridSize) {
-        this.gridSize = gridSize;
-        this.cellStates = new CellState[gridSize][gridSize];
+    public MazeGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.states = new CellState[width * height];
+        java.util.Arrays.fill(states, CellState.EMPTY);
+        this.cells = new CellPane[width * height];
         initializeGrid();
     }
 
@@ -32,44 +42,68 @@ public class MazeGrid extends GridPane {
         setPadding(new Insets(5));
         setBackground(new Background(new BackgroundFill(Color.GRAY, CornerRadii.EMPTY, Insets.EMPTY)));
 
-        for (int y = 0; y < gridSize; y++) {
-            for (int x = 0; x < gridSize; x++) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
                 final int fx = x;
                 final int fy = y;
                 CellPane cell = new CellPane(fx, fy);
                 cell.setOnMouseClicked(e -> handleCellClick(fx, fy, e));
+                cells[fy * width + fx] = cell;
                 add(cell, fx, fy);
             }
         }
     }
 
-    public void setCellStates(CellState[][] cellStates) {
-        this.cellStates = cellStates;
-        updateDisplay();
+    @Override
+    public void setCellStates(CellStateBuffer cellStates) {
+        apply(cellStates.snapshot());
     }
 
+    @Override
     public void setCurrentPosition(Position position) {
+        Position previous = this.currentPosition;
         this.currentPosition = position;
-        updateDisplay();
+        // Only the old and new current cells change appearance
+        if (previous != null) {
+            updateCell(previous.getY() * width + previous.getX());
+        }
+        if (position != null) {
+            updateCell(position.getY() * width + position.getX());
+        }
+    }
+
+    @Override
+    public void updateCells(CellStateBuffer.Snapshot changes) {
+        apply(changes);
+        setCurrentPosition(changes.getCurrentPosition());
     }
 
+    @Override
     public void setEditingDisabled(boolean disabled) {
         this.editingDisabled = disabled;
         setDisable(disabled);
     }
 
+    @Override
     public void setOnCellClick(java.util.function.BiConsumer<Integer, Integer> callback) {
         this.onCellClick = callback;
     }
 
+    @Override
     public void setOnSetStart(java.util.function.BiConsumer<Integer, Integer> callback) {
         this.onSetStart = callback;
     }
 
+    @Override
     public void setOnSetEnd(java.util.function.BiConsumer<Integer, Integer> callback) {
         this.onSetEnd = callback;
     }
 
+    @Override
+    public Node asNode() {
+        return this;
+    }
+
     private void handleCellClick(int x, int y, MouseEvent e) {
         if (editingDisabled) return;
         
@@ -82,16 +116,21 @@ public class MazeGrid extends GridPane {
         }
     }
 
-    private void updateDisplay() {
-        for (int y = 0; y < gridSize; y++) {
-            for (int x = 0; x < gridSize; x++) {
-                CellPane cell = (CellPane) getChildren().get(y * gridSize + x);
-                cell.updateCell(cellStates[y][x], 
-                    currentPosition != null && currentPosition.getX() == x && currentPosition.getY() == y);
-            }
+    private void apply(CellStateBuffer.Snapshot changes) {
+        for (int i = 0; i < changes.size(); i++) {
+            int cell = changes.getCell(i);
+            states[cell] = changes.getState(i);
+            updateCell(cell);
         }
     }
 
+    private void updateCell(int index) {
+        int x = index % width;
+        int y = index / width;
+        cells[index].updateCell(states[index],
+            currentPosition != null && currentPosition.getX() == x && currentPosition.getY() == y);
+    }
+
     private class CellPane extends StackPane {
         private final int x, y;
         private Rectangle background;
@@ -105,7 +144,7 @@ public class MazeGrid extends GridPane {
             setMaxSize(40, 40);
 
             background = new Rectangle(40, 40);
-            background.setFill(getColorForState(CellState.EMPTY));
+            background.setFill(CellColors.forState(CellState.EMPTY));
             background.setStroke(Color.LIGHTGRAY);
             background.setStrokeWidth(1);
 
@@ -116,7 +155,7 @@ public class MazeGrid extends GridPane {
         }
 
         public void updateCell(CellState state, boolean isCurrent) {
-            background.setFill(getColorForState(state));
+            background.setFill(CellColors.forState(state));
             
             if (state == CellState.START) {
                 indicator.setFill(Color.WHITE);
@@ -139,29 +178,6 @@ public class MazeGrid extends GridPane {
                 background.setStrokeWidth(1);
             }
         }
-
-        private Color getColorForState(CellState state) {
-            switch (state) {
-                case EMPTY:
-                    return Color.WHITE;
-                case WALL:
-                    return Color.DARKGRAY;
-                case START:
-                    return Color.GREEN;
-                case END:
-                    return Color.RED;
-                case VISITED:
-                    return Color.LIGHTBLUE;
-                case CURRENT:
-                    return Color.BLUE;
-                case PATH:
-                    return Color.LIGHTGREEN;
-                case BACKTRACKED:
-                    return Color.LIGHTGRAY;
-                default:
-                    return Color.WHITE;
-            }
-        }
     }
 }
 
@@ -0,0 +1,40 @@
+package com.mazesolver.ui;
+
+import com.mazesolver.model.CellStateBuffer;
+import com.mazesolver.model.Position;
+import javafx.scene.Node;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A component that displays the maze and reports clicks on its cells.
+ * Implemented by the node-per-cell {@link MazeGrid} and the {@link CanvasMazeGrid}
+ * used for large mazes.
+ */
+public interface MazeView {
+    /**
+     * Redraws every cell from the buffer's current contents.
+     */
+    void setCellStates(CellStateBuffer cellStates);
+
+    /**
+     * Redraws only the cells in the snapshot and moves the current position to the one
+     * it carries.
+     */
+    void updateCells(CellStateBuffer.Snapshot changes);
+
+    void setCurrentPosition(Position position);
+
+    void setEditingDisabled(boolean disabled);
+
+    void setOnCellClick(BiConsumer<Integer, Integer> callback);
+
+    void setOnSetStart(BiConsumer<Integer, Integer> callback);
+
+    void setOnSetEnd(BiConsumer<Integer, Integer> callback);
+
+    /**
+     * The scene graph node to place in the layout.
+     */
+    Node asNode();
+}
@@ -5,12 +5,16 @@ import com.mazesolver.util.MazePresets;
 import javafx.geometry.Insets;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 
 import java.util.function.Consumer;
 
 public class PresetSelector extends VBox {
     private Consumer<MazePreset> onPresetSelected;
+    private Runnable onOpen;
+    private Runnable onSave;
 
     public PresetSelector() {
         setSpacing(10);
@@ -36,12 +40,40 @@ public class PresetSelector extends VBox {
             });
             getChildren().add(button);
         }
+
+        // Binary .maze files and ASCII text mazes
+        Button openButton = new Button("Open...");
+        openButton.setMaxWidth(Double.MAX_VALUE);
+        openButton.setStyle("-fx-padding: 8;");
+        openButton.setOnAction(e -> {
+            if (onOpen != null) onOpen.run();
+        });
+
+        Button saveButton = new Button("Save...");
+        saveButton.setMaxWidth(Double.MAX_VALUE);
+        saveButton.setStyle("-fx-padding: 8;");
+        saveButton.setOnAction(e -> {
+            if (onSave != null) onSave.run();
+        });
+
+        HBox fileBox = new HBox(10, openButton, saveButton);
+        HBox.setHgrow(openButton, Priority.ALWAYS);
+        HBox.setHgrow(saveButton, Priority.ALWAYS);
+        getChildren().add(fileBox);
     }
 
     public void setOnPresetSelected(Consumer<MazePreset> callback) {
         this.onPresetSelected = callback;
     }
 
+    public void setOnOpen(Runnable callback) {
+        this.onOpen = callback;
+    }
+
+    public void setOnSave(Runnable callback) {
+        this.onSave = callback;
+    }
+
     public MazePreset getSelectedPreset(Button button) {
         return (MazePreset) button.getUserData();
     }
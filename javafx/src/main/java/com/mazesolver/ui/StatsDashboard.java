@@ -12,12 +12,14 @@ public class StatsDashboard extends VBox {
     private Label cellsVisitedLabel;
     private Label pathLengthLabel;
     private Label timeElapsedLabel;
+    private Label cellsPrunedLabel;
     
     private HBox stepsItem;
     private HBox backtracksItem;
     private HBox cellsVisitedItem;
     private HBox pathLengthItem;
     private HBox timeElapsedItem;
+    private HBox cellsPrunedItem;
 
     public StatsDashboard() {
         setSpacing(10);
@@ -48,7 +50,12 @@ public class StatsDashboard extends VBox {
         timeElapsedLabel = new Label();
         timeElapsedLabel.setGraphic(timeElapsedItem);
 
-        getChildren().addAll(stepsLabel, backtracksLabel, cellsVisitedLabel, pathLengthLabel, timeElapsedLabel);
+        cellsPrunedItem = createStatItem("Cells Pruned", "0");
+        cellsPrunedLabel = new Label();
+        cellsPrunedLabel.setGraphic(cellsPrunedItem);
+
+        getChildren().addAll(stepsLabel, backtracksLabel, cellsVisitedLabel, pathLengthLabel, timeElapsedLabel,
+            cellsPrunedLabel);
     }
 
     private HBox createStatItem(String label, String value) {
@@ -78,6 +85,7 @@ public class StatsDashboard extends VBox {
         ((Label) cellsVisitedItem.getUserData()).setText(String.valueOf(stats.getCellsVisited()));
         ((Label) pathLengthItem.getUserData()).setText(stats.getPathLength() > 0 ? String.valueOf(stats.getPathLength()) : "-");
         ((Label) timeElapsedItem.getUserData()).setText(formatTime(stats.getTimeElapsed()));
+        ((Label) cellsPrunedItem.getUserData()).setText(String.valueOf(stats.getCellsPruned()));
     }
 
     private String formatTime(long ms) {
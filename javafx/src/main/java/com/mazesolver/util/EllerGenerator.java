@@ -0,0 +1,171 @@
+package com.mazesolver.util;
+
+import com.mazesolver.model.BitGrid;
+import com.mazesolver.model.Position;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Eller's algorithm as a stream of grid rows. Only the current row's region labels are
+ * kept, so memory is proportional to the width and a maze of any height can be written
+ * straight to a file with {@link MazeFiles#writeBinary(java.nio.file.Path, int, int,
+ * Position, Position, MazeFiles.RowSource)}.
+ *
+ * <p>Rows use {@link BitGrid}'s row layout (bit set = wall) and the room lattice of
+ * {@link MazeGenerators}: rooms on even coordinates, start in the top-left room, end in
+ * the bottom-right room. Labels are renumbered every row to stay below the number of
+ * columns.</p>
+ */
+public final class EllerGenerator implements MazeFiles.RowSource {
+    private final int width;
+    private final int height;
+    private final int columns;
+    private final int rows;
+    private final SplittableRandom random;
+
+    private final int[] label;
+    private final int[] parent;   // union-find over this row's labels
+    private final int[] members;  // cells per region in this row
+    private final int[] seen;
+    private final int[] relabel;
+    private final boolean[] hasDown;
+    private final boolean[] joinsEast;
+    private final boolean[] joinsSouth;
+    private int roomRow = 0;
+
+    public EllerGenerator(int width, int height, long seed) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Maze size must be positive: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.columns = (width + 1) / 2;
+        this.rows = (height + 1) / 2;
+        this.random = new SplittableRandom(seed);
+        this.label = new int[columns];
+        this.parent = new int[columns];
+        this.members = new int[columns];
+        this.seen = new int[columns];
+        this.relabel = new int[columns];
+        this.hasDown = new boolean[columns];
+        this.joinsEast = new boolean[columns];
+        this.joinsSouth = new boolean[columns];
+        for (int x = 0; x < columns; x++) {
+            label[x] = x;
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public Position getStart() {
+        return new Position(0, 0);
+    }
+
+    public Position getEnd() {
+        return new Position((columns - 1) * 2, (rows - 1) * 2);
+    }
+
+    /**
+     * Writes grid row {@code y} into {@code row}. Rows must be requested in order from 0:
+     * even rows hold the rooms and the passages between them, odd rows the passages down.
+     */
+    @Override
+    public void nextRow(int y, long[] row) {
+        fillWalls(row);
+        if ((y & 1) == 0) {
+            carveRoomRow();
+            for (int x = 0; x < columns; x++) {
+                open(row, x * 2);
+                if (joinsEast[x]) {
+                    open(row, x * 2 + 1);
+                }
+            }
+        } else {
+            for (int x = 0; x < columns; x++) {
+                if (joinsSouth[x]) {
+                    open(row, x * 2);
+                }
+            }
+        }
+    }
+
+    private void carveRoomRow() {
+        boolean last = roomRow == rows - 1;
+        roomRow++;
+        for (int x = 0; x < columns; x++) {
+            parent[x] = x;
+            joinsEast[x] = false;
+            joinsSouth[x] = false;
+        }
+
+        // Join neighbors from different regions at random; the last row joins them all
+        for (int x = 0; x + 1 < columns; x++) {
+            int a = find(label[x]);
+            int b = find(label[x + 1]);
+            if (a != b && (last || random.nextBoolean())) {
+                parent[b] = a;
+                joinsEast[x] = true;
+            }
+        }
+        if (last) {
+            return;
+        }
+
+        // Every region continues down at least once, or it would be cut off
+        Arrays.fill(members, 0);
+        Arrays.fill(seen, 0);
+        Arrays.fill(relabel, -1);
+        Arrays.fill(hasDown, false);
+        for (int x = 0; x < columns; x++) {
+            members[find(label[x])]++;
+        }
+        int nextLabel = 0;
+        for (int x = 0; x < columns; x++) {
+            int region = find(label[x]);
+            seen[region]++;
+            if (random.nextBoolean() || (seen[region] == members[region] && !hasDown[region])) {
+                hasDown[region] = true;
+                joinsSouth[x] = true;
+                if (relabel[region] < 0) {
+                    relabel[region] = nextLabel++;
+                }
+                label[x] = relabel[region];
+            } else {
+                label[x] = -1;  // starts a new region in the next row
+            }
+        }
+        for (int x = 0; x < columns; x++) {
+            if (label[x] < 0) {
+                label[x] = nextLabel++;
+            }
+        }
+    }
+
+    // Path halving: every other node on the way up is pointed at its grandparent
+    private int find(int node) {
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    private void fillWalls(long[] row) {
+        Arrays.fill(row, -1L);
+        int tail = width & 63;
+        if (tail != 0) {
+            row[row.length - 1] = (1L << tail) - 1;
+        }
+    }
+
+    private static void open(long[] row, int x) {
+        row[x >>> 6] &= ~(1L << x);
+    }
+}
@@ -0,0 +1,92 @@
+package com.mazesolver.util;
+
+import com.mazesolver.model.BitGrid;
+import com.mazesolver.model.Position;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only view of the walls in a binary maze file, without loading it into the heap.
+ * The file is mapped in 1 GiB segments, so it may be larger than a single mapping or a
+ * {@link BitGrid} allows; pages are read in by the operating system as cells are touched.
+ */
+public final class MappedMaze {
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final Position start;
+    private final Position end;
+    private final ByteBuffer[] segments;
+
+    private MappedMaze(MazeFiles.Header header, ByteBuffer[] segments) {
+        this.width = header.width;
+        this.height = header.height;
+        this.wordsPerRow = BitGrid.wordsPerRow(header.width);
+        this.start = header.start;
+        this.end = header.end;
+        this.segments = segments;
+    }
+
+    public static MappedMaze open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int count = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            ByteBuffer[] segments = new ByteBuffer[Math.max(1, count)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = (long) i << SEGMENT_SHIFT;
+                long length = Math.min(size - position, 1L << SEGMENT_SHIFT);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, length)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            }
+            MazeFiles.Header header = MazeFiles.readHeader(segments[0].duplicate().order(ByteOrder.LITTLE_ENDIAN),
+                size, file);
+            MappedMaze maze = new MappedMaze(header, segments);
+            if (!maze.isOpen(header.start.getX(), header.start.getY())
+                || !maze.isOpen(header.end.getX(), header.end.getY())) {
+                throw new IOException("Corrupt maze file " + file + ": start or end is a wall or outside the grid");
+            }
+            return maze;
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public long getCellCount() {
+        return (long) width * height;
+    }
+
+    public Position getStart() {
+        return start;
+    }
+
+    public Position getEnd() {
+        return end;
+    }
+
+    /**
+     * {@code false} for walls and for cells outside the grid, like {@link BitGrid#isOpen}.
+     */
+    public boolean isOpen(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return false;
+        }
+        // Words are 8-byte aligned and segments 1 GiB aligned, so a word never straddles two
+        long offset = MazeFiles.HEADER_BYTES + ((long) y * wordsPerRow + (x >>> 6)) * Long.BYTES;
+        long word = segments[(int) (offset >>> SEGMENT_SHIFT)].getLong((int) (offset & SEGMENT_MASK));
+        return (word & (1L << x)) == 0;
+    }
+}
@@ -0,0 +1,278 @@
+package com.mazesolver.util;
+
+import com.mazesolver.model.BitGrid;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.Position;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes maze files.
+ *
+ * <p>Binary format ({@code .maze}), little-endian: the magic {@code "MAZE"}, an int
+ * version, then ints width, height, start x, start y, end x, end y, then the walls in
+ * {@link BitGrid}'s own layout (each row on whole 64-bit words, bit set = wall).
+ * {@link #readBinary(Path)} loads a file into the heap; {@link MappedMaze} reads one in
+ * place, for files too large to load.</p>
+ *
+ * <p>ASCII format: one text line per row, {@code #} or {@code 1} for a wall,
+ * {@code .}, {@code 0} or space for an open cell, {@code S} and {@code E} for start and
+ * end. Short lines are padded with open cells.</p>
+ */
+public final class MazeFiles {
+    private static final byte[] MAGIC = {'M', 'A', 'Z', 'E'};
+    private static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    private static final int CHUNK_BYTES = 1 << 20;
+
+    private MazeFiles() {
+    }
+
+    /**
+     * Produces the rows of a maze in order, each in {@link BitGrid}'s row layout
+     * ({@link BitGrid#wordsPerRow(int)} words, bit set = wall).
+     */
+    public interface RowSource {
+        void nextRow(int y, long[] row);
+    }
+
+    /**
+     * Reads a binary or ASCII maze, telling them apart by the magic bytes.
+     */
+    public static Maze read(Path file) throws IOException {
+        return isBinary(file) ? readBinary(file) : readAscii(file);
+    }
+
+    /**
+     * Loads a binary maze into a heap {@link BitGrid}, which the app can edit and every
+     * strategy can search. The body is streamed into the grid row by row through a
+     * fixed-size buffer, so the grid is the only full copy. Files too large for the heap
+     * should be opened with {@link MappedMaze} instead.
+     */
+    public static Maze readBinary(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.position() < HEADER_BYTES) {
+                if (channel.read(buffer) < 0) {
+                    break;  // readHeader rejects files shorter than a header
+                }
+            }
+            buffer.flip();
+            Header header = readHeader(buffer, size, file);
+
+            if ((long) header.width * header.height > Integer.MAX_VALUE) {
+                // Cells are indexed by int everywhere a grid is searched
+                throw new IOException("Maze file too large to load, open it with MappedMaze: " + file);
+            }
+            BitGrid grid = new BitGrid(header.width, header.height);
+            long[] row = new long[BitGrid.wordsPerRow(header.width)];
+            for (int y = 0; y < header.height; y++) {
+                int word = 0;
+                while (word < row.length) {
+                    if (buffer.remaining() < Long.BYTES) {
+                        buffer.compact();
+                        if (channel.read(buffer) < 0) {
+                            throw new IOException("Unexpected end of " + file);
+                        }
+                        buffer.flip();
+                        continue;
+                    }
+                    int count = Math.min(buffer.remaining() / Long.BYTES, row.length - word);
+                    buffer.asLongBuffer().get(row, word, count);
+                    buffer.position(buffer.position() + count * Long.BYTES);
+                    word += count;
+                }
+                grid.setRow(y, row);
+            }
+            return checked(file, new Maze(baseName(file), grid, header.start, header.end));
+        }
+    }
+
+    public static void writeBinary(Path file, Maze maze) throws IOException {
+        BitGrid grid = maze.getGrid();
+        writeBinary(file, grid.getWidth(), grid.getHeight(), maze.getStart(), maze.getEnd(), grid::getRow);
+    }
+
+    /**
+     * Writes a binary maze whose rows are produced one at a time, so the whole grid never
+     * has to be in memory. The body goes out through a fixed-size buffer.
+     */
+    public static void writeBinary(Path file, int width, int height, Position start, Position end,
+                                   RowSource rows) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(MAGIC)
+            .putInt(VERSION)
+            .putInt(width)
+            .putInt(height)
+            .putInt(start.getX())
+            .putInt(start.getY())
+            .putInt(end.getX())
+            .putInt(end.getY());
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long[] row = new long[BitGrid.wordsPerRow(width)];
+            for (int y = 0; y < height; y++) {
+                rows.nextRow(y, row);
+                int word = 0;
+                while (word < row.length) {
+                    if (buffer.remaining() < Long.BYTES) {
+                        flush(channel, buffer);
+                    }
+                    int count = Math.min(buffer.remaining() / Long.BYTES, row.length - word);
+                    buffer.asLongBuffer().put(row, word, count);
+                    buffer.position(buffer.position() + count * Long.BYTES);
+                    word += count;
+                }
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    /**
+     * Parses and validates the header at the start of {@code buffer}, which must be
+     * little-endian, against the total file size.
+     */
+    static Header readHeader(ByteBuffer buffer, long size, Path file) throws IOException {
+        if (size < HEADER_BYTES) {
+            throw new IOException("Not a maze file: " + file);
+        }
+        for (byte b : MAGIC) {
+            if (buffer.get() != b) {
+                throw new IOException("Not a maze file: " + file);
+            }
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported maze file version " + version + ": " + file);
+        }
+        int width = buffer.getInt();
+        int height = buffer.getInt();
+        Position start = new Position(buffer.getInt(), buffer.getInt());
+        Position end = new Position(buffer.getInt(), buffer.getInt());
+        if (width <= 0 || height <= 0
+            || size != HEADER_BYTES + BitGrid.wordCount(width, height) * Long.BYTES) {
+            throw new IOException("Corrupt maze file " + file + ": size does not match "
+                + width + "x" + height);
+        }
+        return new Header(width, height, start, end);
+    }
+
+    static final class Header {
+        final int width;
+        final int height;
+        final Position start;
+        final Position end;
+
+        Header(int width, int height, Position start, Position end) {
+            this.width = width;
+            this.height = height;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    public static Maze readAscii(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        int width = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+                width = Math.max(width, line.length());
+            }
+        }
+        while (!lines.isEmpty() && lines.get(lines.size() - 1).trim().isEmpty()) {
+            lines.remove(lines.size() - 1);
+        }
+        if (lines.isEmpty() || width == 0) {
+            throw new IOException("Empty maze file: " + file);
+        }
+
+        BitGrid grid = new BitGrid(width, lines.size());
+        Position start = null;
+        Position end = null;
+        for (int y = 0; y < lines.size(); y++) {
+            String line = lines.get(y);
+            for (int x = 0; x < line.length(); x++) {
+                char c = line.charAt(x);
+                switch (c) {
+                    case '#':
+                    case '1':
+                        grid.setWall(x, y, true);
+                        break;
+                    case '.':
+                    case '0':
+                    case ' ':
+                        break;
+                    case 'S':
+                        if (start != null) {
+                            throw new IOException(file + ": more than one start (S)");
+                        }
+                        start = new Position(x, y);
+                        break;
+                    case 'E':
+                        if (end != null) {
+                            throw new IOException(file + ": more than one end (E)");
+                        }
+                        end = new Position(x, y);
+                        break;
+                    default:
+                        throw new IOException(file + ": unexpected '" + c + "' at line "
+                            + (y + 1) + ", column " + (x + 1));
+                }
+            }
+        }
+        if (start == null || end == null) {
+            throw new IOException(file + ": the maze needs a start (S) and an end (E)");
+        }
+        return new Maze(baseName(file), grid, start, end);
+    }
+
+    private static boolean isBinary(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer head = ByteBuffer.allocate(MAGIC.length);
+            while (head.hasRemaining()) {
+                if (channel.read(head) < 0) {
+                    return false;
+                }
+            }
+            return ByteBuffer.wrap(MAGIC).equals(head.flip());
+        }
+    }
+
+    private static Maze checked(Path file, Maze maze) throws IOException {
+        BitGrid grid = maze.getGrid();
+        Position start = maze.getStart();
+        Position end = maze.getEnd();
+        if (!grid.isOpen(start.getX(), start.getY()) || !grid.isOpen(end.getX(), end.getY())) {
+            throw new IOException("Corrupt maze file " + file + ": start or end is a wall or outside the grid");
+        }
+        return maze;
+    }
+
+    private static String baseName(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+}
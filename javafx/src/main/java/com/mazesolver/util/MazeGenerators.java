@@ -0,0 +1,354 @@
+package com.mazesolver.util;
+
+import com.mazesolver.model.BitGrid;
+import com.mazesolver.model.GeneratorType;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.Position;
+import com.mazesolver.solver.IntRingBuffer;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+/**
+ * Procedural maze generators. The same type, size and seed always produce the same maze.
+ *
+ * <p>The corridor generators carve a perfect maze (exactly one path between any two
+ * rooms). Rooms sit on even coordinates and the odd cells between them are walls
+ * or passages. The start is the top-left room and the end is the bottom-right room,
+ * which is the bottom-right cell when both sides are odd.
+ * Caves are open areas with the start and end in the largest connected region.</p>
+ */
+public final class MazeGenerators {
+    private static final double CAVE_FILL = 0.45;
+    private static final int CAVE_SMOOTHING_STEPS = 5;
+
+    private MazeGenerators() {
+    }
+
+    public static Maze generate(GeneratorType type, int width, int height, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        String name = type + " " + width + "x" + height + " #" + seed;
+        if (type == GeneratorType.CAVES) {
+            return caves(name, width, height, random);
+        }
+        if (type == GeneratorType.ELLER) {
+            return eller(name, width, height, seed);
+        }
+
+        Rooms rooms = new Rooms(width, height);
+        switch (type) {
+            case BACKTRACKER:
+                backtracker(rooms, random);
+                break;
+            case PRIM:
+                prim(rooms, random);
+                break;
+            case KRUSKAL:
+                kruskal(rooms, random);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown generator: " + type);
+        }
+        return new Maze(name, rooms.grid, new Position(0, 0),
+            new Position((rooms.columns - 1) * 2, (rooms.rows - 1) * 2));
+    }
+
+    // Depth-first carving with an explicit stack, so huge mazes cannot overflow the call stack
+    private static void backtracker(Rooms rooms, SplittableRandom random) {
+        BitSet visited = new BitSet(rooms.count());
+        int[] stack = new int[rooms.count()];
+        int[] candidates = new int[4];
+        int top = 0;
+        stack[top++] = 0;
+        visited.set(0);
+        rooms.open(0);
+
+        while (top > 0) {
+            int room = stack[top - 1];
+            int count = rooms.neighbors(room, visited, false, candidates);
+            if (count == 0) {
+                top--;
+                continue;
+            }
+            int next = candidates[random.nextInt(count)];
+            rooms.connect(room, next);
+            visited.set(next);
+            stack[top++] = next;
+        }
+    }
+
+    // Grows one tree: a random frontier room joins through a random room already in the maze
+    private static void prim(Rooms rooms, SplittableRandom random) {
+        BitSet inMaze = new BitSet(rooms.count());
+        BitSet inFrontier = new BitSet(rooms.count());
+        int[] frontier = new int[rooms.count()];
+        int[] candidates = new int[4];
+        int size = 0;
+
+        int first = random.nextInt(rooms.count());
+        inMaze.set(first);
+        rooms.open(first);
+        int count = rooms.neighbors(first, inMaze, false, candidates);
+        for (int i = 0; i < count; i++) {
+            frontier[size++] = candidates[i];
+            inFrontier.set(candidates[i]);
+        }
+
+        while (size > 0) {
+            int pick = random.nextInt(size);
+            int room = frontier[pick];
+            frontier[pick] = frontier[--size];
+
+            count = rooms.neighbors(room, inMaze, true, candidates);
+            rooms.connect(room, candidates[random.nextInt(count)]);
+            inMaze.set(room);
+
+            count = rooms.neighbors(room, inMaze, false, candidates);
+            for (int i = 0; i < count; i++) {
+                if (!inFrontier.get(candidates[i])) {
+                    frontier[size++] = candidates[i];
+                    inFrontier.set(candidates[i]);
+                }
+            }
+        }
+    }
+
+    // Visits every passage in random order and opens it if it joins two separate regions
+    private static void kruskal(Rooms rooms, SplittableRandom random) {
+        int columns = rooms.columns;
+        int rows = rooms.rows;
+        // Passage id: room * 2 for the one to the east, room * 2 + 1 for the one to the south
+        int[] passages = new int[(columns - 1) * rows + columns * (rows - 1)];
+        int count = 0;
+        for (int room = 0; room < rooms.count(); room++) {
+            if (room % columns + 1 < columns) passages[count++] = room * 2;
+            if (room / columns + 1 < rows) passages[count++] = room * 2 + 1;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = passages[i];
+            passages[i] = passages[j];
+            passages[j] = swap;
+        }
+
+        UnionFind regions = new UnionFind(rooms.count());
+        rooms.open(0);
+        for (int i = 0; i < count; i++) {
+            int room = passages[i] >>> 1;
+            int other = (passages[i] & 1) == 0 ? room + 1 : room + columns;
+            if (regions.union(room, other)) {
+                rooms.connect(room, other);
+            }
+        }
+    }
+
+    private static Maze eller(String name, int width, int height, long seed) {
+        EllerGenerator generator = new EllerGenerator(width, height, seed);
+        BitGrid grid = new BitGrid(width, height);
+        long[] row = new long[BitGrid.wordsPerRow(width)];
+        for (int y = 0; y < height; y++) {
+            generator.nextRow(y, row);
+            grid.setRow(y, row);
+        }
+        return new Maze(name, grid, generator.getStart(), generator.getEnd());
+    }
+
+    /**
+     * Random fill smoothed by the 4-5 cellular automaton rule: a cell becomes a wall when
+     * at least 5 of its 8 neighbors are walls, or 4 if it already is one. Cells outside
+     * the grid count as walls. Every region but the largest is filled in afterwards, so
+     * the start and end are always connected.
+     */
+    private static Maze caves(String name, int width, int height, SplittableRandom random) {
+        // One byte per cell (1 = wall) with a border of walls, so the rule needs no bounds checks
+        int stride = width + 2;
+        byte[] cells = new byte[Math.multiplyExact(stride, height + 2)];
+        Arrays.fill(cells, (byte) 1);
+        for (int y = 1; y <= height; y++) {
+            for (int x = 1; x <= width; x++) {
+                cells[y * stride + x] = (byte) (random.nextDouble() < CAVE_FILL ? 1 : 0);
+            }
+        }
+
+        byte[] next = cells.clone();
+        for (int step = 0; step < CAVE_SMOOTHING_STEPS; step++) {
+            for (int y = 1; y <= height; y++) {
+                for (int i = y * stride + 1, end = i + width; i < end; i++) {
+                    int walls = cells[i - stride - 1] + cells[i - stride] + cells[i - stride + 1]
+                        + cells[i - 1] + cells[i + 1]
+                        + cells[i + stride - 1] + cells[i + stride] + cells[i + stride + 1];
+                    next[i] = (byte) (walls >= 5 || (walls == 4 && cells[i] == 1) ? 1 : 0);
+                }
+            }
+            byte[] swap = cells;
+            cells = next;
+            next = swap;
+        }
+
+        BitGrid grid = new BitGrid(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (cells[(y + 1) * stride + x + 1] == 1) {
+                    grid.setWall(x, y, true);
+                }
+            }
+        }
+
+        BitSet keep = largestRegion(grid);
+        if (keep.isEmpty()) {
+            grid.setWall(0, 0, false);
+            keep.set(0);
+        }
+        for (int cell = 0; cell < width * height; cell++) {
+            if (!keep.get(cell)) {
+                grid.setWall(cell % width, cell / width, true);
+            }
+        }
+        int first = keep.nextSetBit(0);
+        int last = keep.previousSetBit(width * height - 1);
+        return new Maze(name, grid,
+            new Position(first % width, first / width), new Position(last % width, last / width));
+    }
+
+    private static BitSet largestRegion(BitGrid grid) {
+        int width = grid.getWidth();
+        int cells = width * grid.getHeight();
+        BitSet seen = new BitSet(cells);
+        IntRingBuffer queue = new IntRingBuffer();
+        int bestSeed = -1;
+        int bestSize = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            if (!seen.get(cell) && !grid.isWallCell(cell)) {
+                int size = flood(grid, cell, seen, queue);
+                if (size > bestSize) {
+                    bestSize = size;
+                    bestSeed = cell;
+                }
+            }
+        }
+        BitSet region = new BitSet(cells);
+        if (bestSeed >= 0) {
+            flood(grid, bestSeed, region, queue);
+        }
+        return region;
+    }
+
+    // 4-connected flood fill from an open cell; marks the region and returns its size
+    private static int flood(BitGrid grid, int from, BitSet marked, IntRingBuffer queue) {
+        int width = grid.getWidth();
+        int size = 0;
+        marked.set(from);
+        queue.add(from);
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            size++;
+            int x = cell % width;
+            int y = cell / width;
+            if (grid.isOpen(x + 1, y) && !marked.get(cell + 1)) {
+                marked.set(cell + 1);
+                queue.add(cell + 1);
+            }
+            if (grid.isOpen(x, y + 1) && !marked.get(cell + width)) {
+                marked.set(cell + width);
+                queue.add(cell + width);
+            }
+            if (grid.isOpen(x - 1, y) && !marked.get(cell - 1)) {
+                marked.set(cell - 1);
+                queue.add(cell - 1);
+            }
+            if (grid.isOpen(x, y - 1) && !marked.get(cell - width)) {
+                marked.set(cell - width);
+                queue.add(cell - width);
+            }
+        }
+        return size;
+    }
+
+    private static final class UnionFind {
+        private final int[] parent;
+        private final byte[] rank;
+
+        UnionFind(int size) {
+            parent = new int[size];
+            rank = new byte[size];
+            for (int i = 0; i < size; i++) {
+                parent[i] = i;
+            }
+        }
+
+        // Path halving: every other node on the way up is pointed at its grandparent
+        int find(int node) {
+            while (parent[node] != node) {
+                parent[node] = parent[parent[node]];
+                node = parent[node];
+            }
+            return node;
+        }
+
+        // Returns false if a and b already were in the same set
+        boolean union(int a, int b) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return false;
+            }
+            if (rank[rootA] < rank[rootB]) {
+                parent[rootA] = rootB;
+            } else if (rank[rootA] > rank[rootB]) {
+                parent[rootB] = rootA;
+            } else {
+                parent[rootB] = rootA;
+                rank[rootA]++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The room lattice of a corridor maze: room {@code r} is the cell
+     * {@code (2 * (r % columns), 2 * (r / columns))}, and the grid starts out all walls.
+     */
+    private static final class Rooms {
+        final BitGrid grid;
+        final int columns;
+        final int rows;
+
+        Rooms(int width, int height) {
+            grid = new BitGrid(width, height);
+            grid.fill(true);
+            columns = (width + 1) / 2;
+            rows = (height + 1) / 2;
+        }
+
+        int count() {
+            return columns * rows;
+        }
+
+        void open(int room) {
+            grid.setWall(room % columns * 2, room / columns * 2, false);
+        }
+
+        // Opens both rooms and the wall cell between them (the midpoint of their cells)
+        void connect(int a, int b) {
+            open(a);
+            open(b);
+            grid.setWall(a % columns + b % columns, a / columns + b / columns, false);
+        }
+
+        /**
+         * Writes the neighbors of {@code room} whose bit in {@code marked} equals
+         * {@code wanted} into {@code out}, returning how many there are.
+         */
+        int neighbors(int room, BitSet marked, boolean wanted, int[] out) {
+            int x = room % columns;
+            int y = room / columns;
+            int count = 0;
+            if (x + 1 < columns && marked.get(room + 1) == wanted) out[count++] = room + 1;
+            if (y + 1 < rows && marked.get(room + columns) == wanted) out[count++] = room + columns;
+            if (x > 0 && marked.get(room - 1) == wanted) out[count++] = room - 1;
+            if (y > 0 && marked.get(room - columns) == wanted) out[count++] = room - columns;
+            return count;
+        }
+    }
+}
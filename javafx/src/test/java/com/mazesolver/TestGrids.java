@@ -0,0 +1,96 @@
+package com.mazesolver;
+
+import com.mazesolver.model.BitGrid;
+import com.mazesolver.model.MazePath;
+import com.mazesolver.model.Position;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Grid fixtures and a plain BFS reference for the solver tests.
+ */
+public final class TestGrids {
+    private TestGrids() {
+    }
+
+    /**
+     * A {@code width} x {@code height} grid where each cell is a wall with the given
+     * probability (in percent), except {@code start} and {@code end}.
+     */
+    public static BitGrid randomGrid(Random random, int width, int height, int wallPercent,
+                                     Position start, Position end) {
+        BitGrid grid = new BitGrid(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (random.nextInt(100) < wallPercent) {
+                    grid.setWall(x, y, true);
+                }
+            }
+        }
+        grid.setWall(start.getX(), start.getY(), false);
+        grid.setWall(end.getX(), end.getY(), false);
+        return grid;
+    }
+
+    public static Position randomCell(Random random, int width, int height) {
+        return new Position(random.nextInt(width), random.nextInt(height));
+    }
+
+    /**
+     * Shortest distance in moves between two cells, or -1 if either is a wall or they
+     * are not connected.
+     */
+    public static int bfsDistance(BitGrid grid, Position from, Position to) {
+        if (grid.isWall(from.getX(), from.getY()) || grid.isWall(to.getX(), to.getY())) {
+            return -1;
+        }
+        int width = grid.getWidth();
+        int[] distance = new int[width * grid.getHeight()];
+        Arrays.fill(distance, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        int source = from.getY() * width + from.getX();
+        int target = to.getY() * width + to.getX();
+        distance[source] = 0;
+        queue.add(source);
+        int[][] directions = {{1, 0}, {0, 1}, {-1, 0}, {0, -1}};
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            if (cell == target) {
+                return distance[cell];
+            }
+            int x = cell % width;
+            int y = cell / width;
+            for (int[] dir : directions) {
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                if (grid.isOpen(nx, ny) && distance[ny * width + nx] == -1) {
+                    distance[ny * width + nx] = distance[cell] + 1;
+                    queue.add(ny * width + nx);
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Asserts that the path runs from start to end through open, 4-adjacent cells.
+     */
+    public static void assertValidPath(BitGrid grid, MazePath path, Position start, Position end) {
+        assertFalse(path.isEmpty(), "path is empty");
+        assertEquals(start, path.get(0), "path does not begin at the start");
+        assertEquals(end, path.get(path.length() - 1), "path does not finish at the end");
+        for (int i = 0; i < path.length(); i++) {
+            assertTrue(grid.isOpen(path.getX(i), path.getY(i)), "path crosses a wall at " + path.get(i));
+            if (i > 0) {
+                int step = Math.abs(path.getX(i) - path.getX(i - 1)) + Math.abs(path.getY(i) - path.getY(i - 1));
+                assertEquals(1, step, "path jumps between " + path.get(i - 1) + " and " + path.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.mazesolver.model;
+
+import com.mazesolver.solver.SolverEngine;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * What the renderer drains from a {@link CellStateBuffer}: changed cells, their states
+ * and the current cell, all taken at the same moment.
+ */
+class CellStateBufferTest {
+
+    @Test
+    void drainReturnsEachChangedCellOnce() {
+        BitGrid grid = new BitGrid(4, 3);
+        CellStateBuffer buffer = CellStateBuffer.of(grid, new Position(0, 0), new Position(3, 2));
+        assertTrue(buffer.drain().isFull(), "a reset buffer drains in full");
+
+        buffer.set(1, 1, CellState.CURRENT);
+        buffer.set(1, 1, CellState.VISITED);
+        buffer.set(2, 0, CellState.VISITED);
+        CellStateBuffer.Snapshot changes = buffer.drain();
+        assertFalse(changes.isFull());
+        assertEquals(2, changes.size());
+        assertEquals(5, changes.getCell(0));
+        assertEquals(CellState.VISITED, changes.getState(0));
+        assertEquals(0, buffer.drain().size());
+    }
+
+    @Test
+    void drainCarriesTheCurrentCell() {
+        CellStateBuffer buffer = CellStateBuffer.of(new BitGrid(4, 3), new Position(0, 0), new Position(3, 2));
+        assertNull(buffer.drain().getCurrentPosition());
+
+        assertTrue(buffer.setCurrent(6));
+        assertFalse(buffer.setCurrent(6));
+        assertEquals(new Position(2, 1), buffer.drain().getCurrentPosition());
+
+        buffer.reset(new BitGrid(4, 3), new Position(0, 0), new Position(3, 2));
+        assertNull(buffer.drain().getCurrentPosition());
+    }
+
+    @Test
+    void writesWhileSuspendedAreDrainedAfterResuming() {
+        CellStateBuffer buffer = CellStateBuffer.of(new BitGrid(4, 3), new Position(0, 0), new Position(3, 2));
+        buffer.drain();
+
+        buffer.suspendChangeTracking();
+        buffer.set(1, 2, CellState.PATH);
+        buffer.setCurrent(9);
+        buffer.resumeChangeTracking();
+
+        CellStateBuffer.Snapshot changes = buffer.drain();
+        assertTrue(changes.isFull());
+        assertEquals(CellState.PATH, changes.getState(9));
+        assertEquals(new Position(1, 2), changes.getCurrentPosition());
+    }
+
+    @Test
+    void engineHandsItsCurrentPositionOverWithTheStates() {
+        BitGrid grid = new BitGrid(9, 7);
+        Position start = new Position(0, 0);
+        Position end = new Position(8, 6);
+        CellStateBuffer buffer = CellStateBuffer.of(grid, start, end);
+        SolverEngine engine = new SolverEngine(grid, buffer, start, end, DataStructureType.QUEUE);
+
+        engine.initialize();
+        for (int i = 0; i < 10; i++) {
+            engine.step();
+            assertEquals(engine.getCurrentPosition(), buffer.drain().getCurrentPosition(), "step " + i);
+        }
+    }
+}
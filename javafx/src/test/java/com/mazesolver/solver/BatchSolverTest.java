@@ -0,0 +1,61 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.model.BatchResult;
+import com.mazesolver.model.DataStructureType;
+import com.mazesolver.model.MazePreset;
+import com.mazesolver.util.MazePresets;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Submission failures in {@link BatchSolver} must surface instead of leaving it waiting
+ * for permits that never come back.
+ */
+class BatchSolverTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void solvesEveryMazeInInputOrder() throws InterruptedException {
+        List<MazePreset> presets = Arrays.asList(MazePresets.PRESETS);
+        try (BatchSolver solver = new BatchSolver(2, 2)) {
+            List<BatchResult> results = solver.solveAll(presets, DataStructureType.QUEUE);
+            assertEquals(presets.size(), results.size());
+            for (int i = 0; i < presets.size(); i++) {
+                assertEquals(presets.get(i).getId(), results.get(i).getMazeId());
+            }
+        }
+    }
+
+    @Test
+    void closedSolverRejectsInsteadOfHanging() {
+        BatchSolver solver = new BatchSolver(1, 1);
+        solver.close();
+        assertTimeoutPreemptively(TIMEOUT, () -> assertThrows(RejectedExecutionException.class,
+            () -> solver.solve(Arrays.stream(MazePresets.PRESETS), DataStructureType.QUEUE, result -> { })));
+    }
+
+    @Test
+    void failingInputStreamPropagates() {
+        List<MazePreset> presets = Arrays.asList(MazePresets.PRESETS);
+        Stream<MazePreset> mazes = Stream.concat(presets.stream(), Stream.of((MazePreset) null))
+            .map(maze -> {
+                if (maze == null) {
+                    throw new IllegalArgumentException("unreadable maze");
+                }
+                return maze;
+            });
+        try (BatchSolver solver = new BatchSolver(2, 1)) {
+            assertTimeoutPreemptively(TIMEOUT, () -> assertThrows(IllegalArgumentException.class,
+                () -> solver.solve(mazes, DataStructureType.QUEUE, result -> { })));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.TestGrids;
+import com.mazesolver.model.BitGrid;
+import com.mazesolver.model.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConnectivityIndex} kept up to date through {@link ConnectivityIndex#cellChanged}
+ * must answer like a BFS on the edited grid.
+ */
+class ConnectivityIndexTest {
+
+    @Test
+    void answersMatchBfsAfterRandomToggles() {
+        Random random = new Random(23);
+        for (int i = 0; i < 150; i++) {
+            int width = 1 + random.nextInt(16);
+            int height = 1 + random.nextInt(16);
+            BitGrid grid = new BitGrid(width, height);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    grid.setWall(x, y, random.nextInt(100) < 35);
+                }
+            }
+            ConnectivityIndex connectivity = new ConnectivityIndex(grid);
+
+            for (int edit = 0; edit < 40; edit++) {
+                Position cell = TestGrids.randomCell(random, width, height);
+                grid.toggle(cell.getX(), cell.getY());
+                connectivity.cellChanged(cell.getX(), cell.getY());
+
+                for (int query = 0; query < 10; query++) {
+                    Position from = TestGrids.randomCell(random, width, height);
+                    Position to = TestGrids.randomCell(random, width, height);
+                    assertEquals(TestGrids.bfsDistance(grid, from, to) >= 0,
+                        connectivity.isConnected(index(grid, from), index(grid, to)),
+                        "grid " + i + ", edit " + edit + ": " + from + " to " + to);
+                }
+            }
+        }
+    }
+
+    @Test
+    void closingAndReopeningAGapSplitsAndJoinsTheSides() {
+        BitGrid grid = new BitGrid(7, 3);
+        for (int y = 0; y < 3; y++) {
+            grid.setWall(3, y, y != 1);
+        }
+        ConnectivityIndex connectivity = new ConnectivityIndex(grid);
+        int left = 0;
+        int right = 6;
+        assertTrue(connectivity.isConnected(left, right));
+
+        grid.setWall(3, 1, true);
+        connectivity.cellChanged(3, 1);
+        assertFalse(connectivity.isConnected(left, right));
+
+        grid.setWall(3, 1, false);
+        connectivity.cellChanged(3, 1);
+        assertTrue(connectivity.isConnected(left, right));
+    }
+
+    private static int index(BitGrid grid, Position position) {
+        return position.getY() * grid.getWidth() + position.getX();
+    }
+}
@@ -0,0 +1,134 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.TestGrids;
+import com.mazesolver.model.AlgorithmState;
+import com.mazesolver.model.BitGrid;
+import com.mazesolver.model.DataStructureType;
+import com.mazesolver.model.GeneratorType;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.Position;
+import com.mazesolver.model.SolveResult;
+import com.mazesolver.util.MazeGenerators;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link CorridorGraph} edges must stand for real corridors, and {@link CorridorGraphCache}
+ * must hand back a graph only while it still matches the grid.
+ */
+class CorridorGraphTest {
+
+    @Test
+    void edgesExpandToContiguousCorridors() {
+        Random random = new Random(25);
+        for (int i = 0; i < 200; i++) {
+            int width = 1 + random.nextInt(20);
+            int height = 1 + random.nextInt(20);
+            Position start = TestGrids.randomCell(random, width, height);
+            Position end = TestGrids.randomCell(random, width, height);
+            BitGrid grid = TestGrids.randomGrid(random, width, height, random.nextInt(50), start, end);
+            assertEdgesExpand(grid, new CorridorGraph(grid, index(grid, start), index(grid, end)), "grid " + i);
+        }
+        for (GeneratorType generator : GeneratorType.values()) {
+            Maze maze = MazeGenerators.generate(generator, 61, 41, 13);
+            BitGrid grid = maze.getGrid();
+            CorridorGraph graph = new CorridorGraph(grid, index(grid, maze.getStart()), index(grid, maze.getEnd()));
+            assertEdgesExpand(grid, graph, generator.name());
+        }
+    }
+
+    @Test
+    void cacheReusesTheGraphUntilTheGridChanges() {
+        Maze maze = MazeGenerators.generate(GeneratorType.BACKTRACKER, 41, 31, 4);
+        BitGrid grid = maze.getGrid();
+        int start = index(grid, maze.getStart());
+        int end = index(grid, maze.getEnd());
+        CorridorGraphCache cache = new CorridorGraphCache();
+
+        CorridorGraph graph = cache.get(grid, start, end, false);
+        assertSame(graph, cache.get(grid, start, end, false));
+        CorridorGraph filled = cache.get(grid, start, end, true);
+        assertNotSame(graph, filled);
+        assertTrue(filled.getCellsPruned() > 0, "a backtracker maze has dead ends to fill");
+        assertNotSame(graph, cache.get(grid.copy(), start, end, false));
+
+        graph = cache.get(grid, start, end, false);
+        grid.toggle(1, 2);
+        CorridorGraph rebuilt = cache.get(grid, start, end, false);
+        assertNotSame(graph, rebuilt);
+        assertEquals(0, rebuilt.getCellsPruned());
+    }
+
+    @Test
+    void walledStartEndsWithNoPath() {
+        BitGrid grid = new BitGrid(7, 5);
+        Position start = new Position(0, 0);
+        grid.setWall(start.getX(), start.getY(), true);
+        SolveResult result = new SolverEngine(grid, start, new Position(6, 4), DataStructureType.CORRIDOR_GRAPH).solve();
+        assertEquals(AlgorithmState.NO_PATH, result.getState());
+    }
+
+    @Test
+    void sharedCacheFollowsWallEdits() {
+        Random random = new Random(52);
+        for (int i = 0; i < 40; i++) {
+            int width = 2 + random.nextInt(20);
+            int height = 2 + random.nextInt(20);
+            Position start = TestGrids.randomCell(random, width, height);
+            Position end = TestGrids.randomCell(random, width, height);
+            BitGrid grid = TestGrids.randomGrid(random, width, height, random.nextInt(40), start, end);
+            CorridorGraphCache cache = new CorridorGraphCache();
+
+            for (int edit = 0; edit < 10; edit++) {
+                for (boolean fill : new boolean[] {false, true}) {
+                    SolverEngine engine = new SolverEngine(grid, start, end, DataStructureType.CORRIDOR_GRAPH);
+                    engine.setCorridorGraphCache(cache);
+                    engine.setDeadEndFilling(fill);
+                    SolveResult result = engine.solve();
+
+                    String label = "grid " + i + ", edit " + edit + (fill ? ", filled" : "");
+                    int expected = TestGrids.bfsDistance(grid, start, end);
+                    assertEquals(expected + 1, result.getPath().length(), label);
+                    if (expected >= 0) {
+                        TestGrids.assertValidPath(grid, result.getPath(), start, end);
+                    }
+                }
+                Position cell = TestGrids.randomCell(random, width, height);
+                if (!cell.equals(start) && !cell.equals(end)) {
+                    grid.toggle(cell.getX(), cell.getY());
+                }
+            }
+        }
+    }
+
+    private static void assertEdgesExpand(BitGrid grid, CorridorGraph graph, String label) {
+        int width = grid.getWidth();
+        int[] cells = new int[width * grid.getHeight()];
+        for (int edge = 0; edge < graph.getEdgeCount(); edge++) {
+            int source = graph.getSource(edge);
+            int length = graph.getLength(edge);
+            graph.expand(edge, cells, 0);
+
+            assertEquals(graph.getTarget(edge), cells[length - 1], label + ": edge " + edge + " ends elsewhere");
+            int previous = source;
+            for (int i = 0; i < length; i++) {
+                int cell = cells[i];
+                assertTrue(grid.isOpen(cell % width, cell / width), label + ": edge " + edge + " crosses a wall");
+                int step = Math.abs(cell % width - previous % width) + Math.abs(cell / width - previous / width);
+                assertEquals(1, step, label + ": edge " + edge + " jumps from " + previous + " to " + cell);
+                assertEquals(i == length - 1, graph.isNode(cell), label + ": edge " + edge + " passes a node");
+                previous = cell;
+            }
+        }
+    }
+
+    private static int index(BitGrid grid, Position position) {
+        return position.getY() * grid.getWidth() + position.getX();
+    }
+}
@@ -0,0 +1,111 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.TestGrids;
+import com.mazesolver.model.AlgorithmState;
+import com.mazesolver.model.BitGrid;
+import com.mazesolver.model.DataStructureType;
+import com.mazesolver.model.Position;
+import com.mazesolver.model.SolveResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * D* Lite replans through {@link SolverEngine#replan(int, int)} must end where a fresh
+ * BFS on the edited grid would.
+ */
+class DStarLiteTest {
+
+    @Test
+    void replansMatchBfsAfterRandomToggles() {
+        Random random = new Random(78);
+        for (int i = 0; i < 100; i++) {
+            int width = 2 + random.nextInt(20);
+            int height = 2 + random.nextInt(20);
+            Position start = TestGrids.randomCell(random, width, height);
+            Position end = TestGrids.randomCell(random, width, height);
+            BitGrid grid = TestGrids.randomGrid(random, width, height, random.nextInt(40), start, end);
+
+            SolverEngine engine = new SolverEngine(grid, start, end, DataStructureType.D_STAR_LITE);
+            assertMatchesBfs(grid, engine.solve().getState(), engine, start, end, "grid " + i);
+
+            for (int edit = 0; edit < 20; edit++) {
+                Position cell = TestGrids.randomCell(random, width, height);
+                if (cell.equals(start) || cell.equals(end)) {
+                    continue;
+                }
+                grid.toggle(cell.getX(), cell.getY());
+                assertMatchesBfs(grid, replan(engine, cell), engine, start, end, "grid " + i + ", edit " + edit);
+            }
+        }
+    }
+
+    @Test
+    void replanFindsThePathAgainOnceAWallIsRemoved() {
+        BitGrid grid = new BitGrid(9, 5);
+        for (int y = 0; y < 5; y++) {
+            grid.setWall(4, y, true);
+        }
+        Position start = new Position(0, 0);
+        Position end = new Position(8, 4);
+        SolverEngine engine = new SolverEngine(grid, start, end, DataStructureType.D_STAR_LITE);
+        SolveResult result = engine.solve();
+        assertEquals(AlgorithmState.NO_PATH, result.getState());
+
+        Position gap = new Position(4, 2);
+        grid.toggle(gap.getX(), gap.getY());
+        assertMatchesBfs(grid, replan(engine, gap), engine, start, end, "reopened");
+
+        grid.toggle(gap.getX(), gap.getY());
+        assertEquals(AlgorithmState.NO_PATH, replan(engine, gap));
+        assertEquals(0, engine.getPath().length());
+    }
+
+    @Test
+    void keyOnlyUpdatesAfterAStartMoveAreNotExpansions() {
+        BitGrid grid = new BitGrid(10, 10);
+        DStarLite search = new DStarLite(grid, 0, 99);
+        while (search.step() != -1) {
+            // initial search
+        }
+        search.moveStart(90);
+        grid.setWall(4, 9, true);
+        search.cellChanged(4, 9);
+
+        int keyUpdates = 0;
+        int cell;
+        while ((cell = search.step()) != -1) {
+            if (cell == DStarLite.KEY_UPDATED) {
+                keyUpdates++;
+            } else {
+                assertTrue(cell >= 0 && cell < 100, "expanded cell " + cell);
+            }
+        }
+        assertTrue(keyUpdates > 0, "the start move should leave outdated keys to raise");
+        int expected = TestGrids.bfsDistance(grid, new Position(0, 9), new Position(9, 9));
+        assertEquals(expected + 1, search.extractPath().length);
+    }
+
+    private static AlgorithmState replan(SolverEngine engine, Position cell) {
+        engine.replan(cell.getX(), cell.getY());
+        while (engine.step()) {
+            // expand until the replan settles
+        }
+        return engine.getAlgorithmState();
+    }
+
+    private static void assertMatchesBfs(BitGrid grid, AlgorithmState state, SolverEngine engine,
+                                         Position start, Position end, String label) {
+        int expected = TestGrids.bfsDistance(grid, start, end);
+        if (expected < 0) {
+            assertEquals(AlgorithmState.NO_PATH, state, label);
+            return;
+        }
+        assertEquals(AlgorithmState.FINISHED, state, label);
+        TestGrids.assertValidPath(grid, engine.getPath(), start, end);
+        assertEquals(expected + 1, engine.getPath().length(), label + ": replanned path is not shortest");
+    }
+}
@@ -0,0 +1,95 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.TestGrids;
+import com.mazesolver.model.BitGrid;
+import com.mazesolver.model.GeneratorType;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MazePath;
+import com.mazesolver.model.Position;
+import com.mazesolver.util.MappedMaze;
+import com.mazesolver.util.MazeFiles;
+import com.mazesolver.util.MazeGenerators;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * {@link ExternalBfs} on mapped files must agree with an in-memory BFS.
+ */
+class ExternalBfsTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void distanceAndPathMatchBfsOnRandomGrids() throws IOException {
+        Random random = new Random(90);
+        for (int i = 0; i < 60; i++) {
+            int width = 1 + random.nextInt(70);
+            int height = 1 + random.nextInt(30);
+            Position start = TestGrids.randomCell(random, width, height);
+            Position end = TestGrids.randomCell(random, width, height);
+            BitGrid grid = TestGrids.randomGrid(random, width, height, random.nextInt(45), start, end);
+            assertMatchesBfs(new Maze("grid " + i, grid, start, end));
+        }
+    }
+
+    @Test
+    void distanceAndPathMatchBfsOnGeneratedMazes() throws IOException {
+        for (GeneratorType generator : GeneratorType.values()) {
+            assertMatchesBfs(MazeGenerators.generate(generator, 129, 65, 11));
+        }
+    }
+
+    @Test
+    void spillFilesAreRemovedOnClose() throws IOException {
+        Maze maze = MazeGenerators.generate(GeneratorType.BACKTRACKER, 41, 41, 2);
+        Path file = dir.resolve("maze.maze");
+        MazeFiles.writeBinary(file, maze);
+        Path work = Files.createDirectory(dir.resolve("work"));
+        try (ExternalBfs bfs = new ExternalBfs(MappedMaze.open(file), work)) {
+            bfs.solve(maze.getStart(), maze.getEnd());
+            bfs.writePath(dir.resolve("path.txt"));
+        }
+        try (Stream<Path> left = Files.list(work)) {
+            assertEquals(0, left.count());
+        }
+    }
+
+    private void assertMatchesBfs(Maze maze) throws IOException {
+        Path file = dir.resolve("maze.maze");
+        Path output = dir.resolve("path.txt");
+        Files.deleteIfExists(output);
+        MazeFiles.writeBinary(file, maze);
+
+        int expected = TestGrids.bfsDistance(maze.getGrid(), maze.getStart(), maze.getEnd());
+        try (ExternalBfs bfs = new ExternalBfs(MappedMaze.open(file), dir)) {
+            assertEquals(expected, bfs.solve(maze.getStart(), maze.getEnd()), maze.getName());
+            assertEquals(expected >= 0, bfs.hasPath(), maze.getName());
+            bfs.writePath(output);
+        }
+        if (expected < 0) {
+            assertFalse(Files.exists(output), maze.getName() + ": path written without a path");
+            return;
+        }
+
+        List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+        int[] cells = new int[lines.size()];
+        for (int i = 0; i < cells.length; i++) {
+            String[] xy = lines.get(i).trim().split(" ");
+            cells[i] = Integer.parseInt(xy[1]) * maze.getWidth() + Integer.parseInt(xy[0]);
+        }
+        MazePath path = MazePath.ofCells(cells, maze.getWidth());
+        TestGrids.assertValidPath(maze.getGrid(), path, maze.getStart(), maze.getEnd());
+        assertEquals(expected + 1, path.length(), maze.getName());
+    }
+}
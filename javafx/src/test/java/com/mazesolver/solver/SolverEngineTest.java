@@ -0,0 +1,161 @@
+package com.mazesolver.solver;
+
+import com.mazesolver.TestGrids;
+import com.mazesolver.model.AlgorithmState;
+import com.mazesolver.model.BitGrid;
+import com.mazesolver.model.DataStructureType;
+import com.mazesolver.model.GeneratorType;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.Position;
+import com.mazesolver.model.SolveResult;
+import com.mazesolver.util.MazeGenerators;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Every strategy against a plain BFS: the shortest-path strategies must match its
+ * distance, the others must find a valid path exactly when one exists.
+ */
+class SolverEngineTest {
+    private static final int RANDOM_GRIDS = 400;
+
+    @ParameterizedTest
+    @EnumSource(value = DataStructureType.class, names = {"QUEUE", "A_STAR", "JUMP_POINT",
+        "BIDIRECTIONAL_BFS", "BIDIRECTIONAL_A_STAR", "D_STAR_LITE", "CORRIDOR_GRAPH"})
+    void shortestPathStrategiesMatchBfsOnRandomGrids(DataStructureType type) {
+        Random random = new Random(12);
+        for (int i = 0; i < RANDOM_GRIDS; i++) {
+            int width = 1 + random.nextInt(20);
+            int height = 1 + random.nextInt(20);
+            Position start = TestGrids.randomCell(random, width, height);
+            Position end = TestGrids.randomCell(random, width, height);
+            BitGrid grid = TestGrids.randomGrid(random, width, height, random.nextInt(50), start, end);
+
+            assertShortest(grid, start, end, type, "grid " + i);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = DataStructureType.class, names = {"QUEUE", "A_STAR", "JUMP_POINT",
+        "BIDIRECTIONAL_BFS", "BIDIRECTIONAL_A_STAR", "D_STAR_LITE", "CORRIDOR_GRAPH"})
+    void shortestPathStrategiesMatchBfsOnGeneratedMazes(DataStructureType type) {
+        for (GeneratorType generator : GeneratorType.values()) {
+            Maze maze = MazeGenerators.generate(generator, 61, 41, 7);
+            assertShortest(maze.getGrid(), maze.getStart(), maze.getEnd(), type, generator.name());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = DataStructureType.class, names = {"STACK"})
+    void depthFirstFindsAValidPathWhenOneExists(DataStructureType type) {
+        Random random = new Random(34);
+        for (int i = 0; i < RANDOM_GRIDS; i++) {
+            int width = 1 + random.nextInt(20);
+            int height = 1 + random.nextInt(20);
+            Position start = TestGrids.randomCell(random, width, height);
+            Position end = TestGrids.randomCell(random, width, height);
+            BitGrid grid = TestGrids.randomGrid(random, width, height, random.nextInt(50), start, end);
+
+            SolveResult result = new SolverEngine(grid, start, end, type).solve();
+            boolean reachable = TestGrids.bfsDistance(grid, start, end) >= 0;
+            assertEquals(reachable ? AlgorithmState.FINISHED : AlgorithmState.NO_PATH, result.getState(), "grid " + i);
+            if (reachable) {
+                TestGrids.assertValidPath(grid, result.getPath(), start, end);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(DataStructureType.class)
+    void noStrategyFindsAPathThroughAWall(DataStructureType type) {
+        BitGrid grid = new BitGrid(9, 5);
+        for (int y = 0; y < 5; y++) {
+            grid.setWall(4, y, true);
+        }
+        SolveResult result = new SolverEngine(grid, new Position(0, 0), new Position(8, 4), type).solve();
+        assertEquals(AlgorithmState.NO_PATH, result.getState());
+        assertEquals(0, result.getPath().length());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = DataStructureType.class, names = {"QUEUE", "A_STAR", "JUMP_POINT",
+        "BIDIRECTIONAL_BFS", "BIDIRECTIONAL_A_STAR", "D_STAR_LITE", "CORRIDOR_GRAPH"})
+    void deadEndFillingKeepsPathsShortest(DataStructureType type) {
+        Random random = new Random(56);
+        for (int i = 0; i < RANDOM_GRIDS / 2; i++) {
+            int width = 1 + random.nextInt(20);
+            int height = 1 + random.nextInt(20);
+            Position start = TestGrids.randomCell(random, width, height);
+            Position end = TestGrids.randomCell(random, width, height);
+            BitGrid grid = TestGrids.randomGrid(random, width, height, random.nextInt(50), start, end);
+
+            SolverEngine engine = new SolverEngine(grid, start, end, type);
+            engine.setDeadEndFilling(true);
+            assertShortest(grid, engine.solve(), start, end, "grid " + i);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(DataStructureType.class)
+    void startEqualToEndGivesAOneCellPath(DataStructureType type) {
+        BitGrid grid = new BitGrid(5, 5);
+        Position cell = new Position(2, 3);
+        SolveResult result = new SolverEngine(grid, cell, cell, type).solve();
+        assertEquals(AlgorithmState.FINISHED, result.getState());
+        assertEquals(1, result.getPath().length());
+    }
+
+    // The two frontiers meet on a cell for even distances and across an edge for odd ones
+    @ParameterizedTest
+    @EnumSource(value = DataStructureType.class, names = {"BIDIRECTIONAL_BFS", "BIDIRECTIONAL_A_STAR"})
+    void bidirectionalSearchesMeetAtEveryDistanceParity(DataStructureType type) {
+        for (int length = 1; length <= 24; length++) {
+            BitGrid corridor = new BitGrid(length, 1);
+            Position start = new Position(0, 0);
+            Position end = new Position(length - 1, 0);
+            assertShortest(corridor, start, end, type, "corridor of " + length);
+        }
+    }
+
+    // Two routes of different lengths around a block: the frontiers first touch on the
+    // longer one when it is explored first, so the search must keep going to the shorter
+    @ParameterizedTest
+    @EnumSource(value = DataStructureType.class, names = {"BIDIRECTIONAL_BFS", "BIDIRECTIONAL_A_STAR"})
+    void bidirectionalSearchesPickTheShorterOfTwoRoutes(DataStructureType type) {
+        for (int blockWidth = 1; blockWidth <= 8; blockWidth++) {
+            for (int offset = 0; offset < 3; offset++) {
+                BitGrid grid = new BitGrid(blockWidth + 4, 7);
+                for (int y = 1; y < 5 + (offset == 1 ? 1 : 0); y++) {
+                    for (int x = 2; x < 2 + blockWidth; x++) {
+                        grid.setWall(x, y, true);
+                    }
+                }
+                Position start = new Position(0, 2 + offset);
+                Position end = new Position(blockWidth + 3, 2);
+                assertShortest(grid, start, end, type, "block " + blockWidth + ", offset " + offset);
+            }
+        }
+    }
+
+    private static void assertShortest(BitGrid grid, Position start, Position end, DataStructureType type,
+                                       String label) {
+        assertShortest(grid, new SolverEngine(grid, start, end, type).solve(), start, end, label);
+    }
+
+    private static void assertShortest(BitGrid grid, SolveResult result, Position start, Position end,
+                                       String label) {
+        int expected = TestGrids.bfsDistance(grid, start, end);
+        if (expected < 0) {
+            assertEquals(AlgorithmState.NO_PATH, result.getState(), label);
+            return;
+        }
+        assertEquals(AlgorithmState.FINISHED, result.getState(), label);
+        TestGrids.assertValidPath(grid, result.getPath(), start, end);
+        assertEquals(expected + 1, result.getPath().length(), label + ": path is not shortest");
+        assertEquals(expected + 1, result.getStats().getPathLength(), label);
+    }
+}
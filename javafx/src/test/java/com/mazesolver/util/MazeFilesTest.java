@@ -0,0 +1,137 @@
+package com.mazesolver.util;
+
+import com.mazesolver.TestGrids;
+import com.mazesolver.model.BitGrid;
+import com.mazesolver.model.GeneratorType;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.Position;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The {@code .maze} binary format read back through {@link MazeFiles} and
+ * {@link MappedMaze}, and the ASCII reader.
+ */
+class MazeFilesTest {
+    @TempDir
+    Path dir;
+
+    // Widths on both sides of a 64-bit word boundary
+    @ParameterizedTest
+    @ValueSource(ints = {1, 63, 64, 65, 130})
+    void binaryRoundTripKeepsEveryWall(int width) throws IOException {
+        Random random = new Random(width);
+        int height = 1 + random.nextInt(40);
+        Position start = TestGrids.randomCell(random, width, height);
+        Position end = TestGrids.randomCell(random, width, height);
+        Maze maze = new Maze("random", TestGrids.randomGrid(random, width, height, 40, start, end), start, end);
+
+        Path file = dir.resolve("random.maze");
+        MazeFiles.writeBinary(file, maze);
+        assertSameMaze(maze, MazeFiles.read(file));
+        assertSameMaze(maze, MappedMaze.open(file));
+    }
+
+    // More than one read buffer, with a row straddling the buffer boundary
+    @Test
+    void binaryRoundTripAcrossReadChunks() throws IOException {
+        int width = 8192;
+        int height = 1100;
+        BitGrid grid = new BitGrid(width, height);
+        Random random = new Random(9);
+        long[] row = new long[BitGrid.wordsPerRow(width)];
+        for (int y = 0; y < height; y++) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = random.nextLong();
+            }
+            grid.setRow(y, row);
+        }
+        Position start = new Position(0, 0);
+        Position end = new Position(width - 1, height - 1);
+        grid.setWall(start.getX(), start.getY(), false);
+        grid.setWall(end.getX(), end.getY(), false);
+        Maze maze = new Maze("large", grid, start, end);
+
+        Path file = dir.resolve("large.maze");
+        MazeFiles.writeBinary(file, maze);
+        assertSameMaze(maze, MazeFiles.readBinary(file));
+    }
+
+    @Test
+    void streamedEllerMatchesTheInMemoryGenerator() throws IOException {
+        int width = 201;
+        int height = 99;
+        EllerGenerator generator = new EllerGenerator(width, height, 5);
+        Path file = dir.resolve("eller.maze");
+        MazeFiles.writeBinary(file, width, height, generator.getStart(), generator.getEnd(), generator);
+
+        assertSameMaze(MazeGenerators.generate(GeneratorType.ELLER, width, height, 5), MazeFiles.readBinary(file));
+    }
+
+    @Test
+    void readsAsciiMazes() throws IOException {
+        Path file = dir.resolve("small.txt");
+        Files.write(file, Arrays.asList("S.#", "1 0#", "#.E"), StandardCharsets.UTF_8);
+
+        Maze maze = MazeFiles.read(file);
+        assertEquals("small", maze.getName());
+        assertEquals(4, maze.getWidth());
+        assertEquals(3, maze.getHeight());
+        assertEquals(new Position(0, 0), maze.getStart());
+        assertEquals(new Position(2, 2), maze.getEnd());
+        BitGrid expected = new BitGrid(4, 3);
+        expected.setWall(2, 0, true);
+        expected.setWall(0, 1, true);
+        expected.setWall(3, 1, true);
+        expected.setWall(0, 2, true);
+        assertEquals(expected, maze.getGrid());
+    }
+
+    @Test
+    void rejectsAsciiMazesWithoutAnEnd() throws IOException {
+        Path file = dir.resolve("open.txt");
+        Files.write(file, Arrays.asList("S..", "..."), StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> MazeFiles.read(file));
+    }
+
+    @Test
+    void rejectsTruncatedBinaryFiles() throws IOException {
+        Maze maze = MazeGenerators.generate(GeneratorType.PRIM, 65, 33, 3);
+        Path file = dir.resolve("prim.maze");
+        MazeFiles.writeBinary(file, maze);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 8));
+        assertThrows(IOException.class, () -> MazeFiles.readBinary(file));
+    }
+
+    private static void assertSameMaze(Maze expected, Maze actual) {
+        assertEquals(expected.getStart(), actual.getStart());
+        assertEquals(expected.getEnd(), actual.getEnd());
+        assertEquals(expected.getGrid(), actual.getGrid());
+    }
+
+    private static void assertSameMaze(Maze expected, MappedMaze actual) {
+        BitGrid grid = expected.getGrid();
+        assertEquals(grid.getWidth(), actual.getWidth());
+        assertEquals(grid.getHeight(), actual.getHeight());
+        assertEquals(expected.getStart(), actual.getStart());
+        assertEquals(expected.getEnd(), actual.getEnd());
+        for (int y = -1; y <= grid.getHeight(); y++) {
+            for (int x = -1; x <= grid.getWidth(); x++) {
+                assertEquals(grid.isOpen(x, y), actual.isOpen(x, y), "cell " + x + "," + y);
+            }
+        }
+    }
+}